@@ -16,6 +16,7 @@ import me.jangluzniewicz.graphsearchalgorithms.logic.*;
 import me.jangluzniewicz.graphsearchalgorithms.model.Board;
 import me.jangluzniewicz.graphsearchalgorithms.model.Node;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -37,7 +38,11 @@ public class MainController {
     @FXML
     private Button playButton;
     @FXML
+    private Button stopButton;
+    @FXML
     private Button generateButton;
+    private CancellationToken cancellationToken;
+    private final SolutionCache solutionCache = new SolutionCache(64);
 
     /**
      * Initializes the controller, setting up the initial board state and binding UI elements.
@@ -47,7 +52,8 @@ public class MainController {
         Board board = BoardFactory.getSolvedBoard(4, 4);
         boardWrapper = new BoardWrapper(board);
         bindGridToBoard();
-        algorithmComboBox.getItems().addAll("BFS", "DFS", "A-star");
+        algorithmComboBox.getItems().addAll("BFS", "Parallel BFS", "Bidirectional BFS", "Disk BFS", "DFS", "IDDFS",
+                "A-star", "HDA-star", "IDA-star");
         bindUIElements();
     }
 
@@ -79,10 +85,12 @@ public class MainController {
                     depthComboBox.getItems().setAll("7", "12", "15", "18");
                 }
 
-                if (newValue.equals("BFS") || newValue.equals("DFS")) {
+                if (newValue.equals("BFS") || newValue.equals("Parallel BFS") || newValue.equals("Bidirectional BFS")
+                        || newValue.equals("Disk BFS") || newValue.equals("DFS") || newValue.equals("IDDFS")) {
                     heuristicComboBox.getItems().setAll("RDLU", "DRUL", "DRLU", "LUDR", "LURD", "ULDR", "ULRD");
-                } else if (newValue.equals("A-star")) {
-                    heuristicComboBox.getItems().setAll("MANH", "HAMM");
+                } else if (newValue.equals("A-star") || newValue.equals("HDA-star")
+                        || newValue.equals("IDA-star")) {
+                    heuristicComboBox.getItems().setAll("MANH", "HAMM", "LINC", "WALK", "PDB");
                 }
             } else {
                 depthComboBox.getItems().clear();
@@ -132,36 +140,70 @@ public class MainController {
         String selectedAlgorithm = algorithmComboBox.getSelectionModel().getSelectedItem();
         BoardSolverInterface boardSolver = switch (selectedAlgorithm) {
             case "BFS" -> new SolverBFS();
+            case "Parallel BFS" -> new SolverParallelBFS();
+            case "Bidirectional BFS" -> new SolverBidirectionalBFS();
+            case "Disk BFS" -> new SolverDiskBFS();
             case "DFS" -> new SolverDFS();
+            case "IDDFS" -> new SolverIDDFS();
             case "A-star" -> new SolverASTR();
+            case "HDA-star" -> new SolverHDAStar();
+            case "IDA-star" -> new SolverIDAStar();
             default -> null;
         };
+        if (boardSolver != null) {
+            boardSolver = new CachingSolver(boardSolver, solutionCache);
+        }
 
         setUIElementsDisabled(true);
+        cancellationToken = new CancellationToken();
+        stopButton.setDisable(false);
 
-        Task<List<Character>> task = getTask(boardSolver);
+        Task<List<Character>> task = getTask(boardSolver, SolverLimits.cancellable(cancellationToken));
 
         ExecutorService executorService = Executors.newSingleThreadExecutor();
         executorService.submit(task);
         executorService.shutdown();
     }
 
+    /**
+     * Stops the running search. The solver notices the request at its next check and returns without a solution.
+     */
+    @FXML
+    public void stopSolving() {
+        if (cancellationToken != null) {
+            cancellationToken.cancel();
+        }
+        stopButton.setDisable(true);
+    }
+
     /**
      * Creates a Task to perform the solving operation asynchronously.
      *
      * @param boardSolver The solver algorithm to use.
+     * @param limits      The limits of the search.
      * @return A Task that performs the solving operation.
      */
-    private Task<List<Character>> getTask(BoardSolverInterface boardSolver) {
+    private Task<List<Character>> getTask(BoardSolverInterface boardSolver, SolverLimits limits) {
         Task<List<Character>> task = new Task<>() {
             @Override
             protected List<Character> call() {
-                return getResult(boardSolver);
+                return getResult(boardSolver, limits);
             }
         };
 
         task.setOnSucceeded(event -> {
+            stopButton.setDisable(true);
             List<Character> result = task.getValue();
+            if (boardSolver != null && boardSolver.getStats().outcome() == SolverOutcome.CANCELLED) {
+                showAlertDialog("Solving Stopped", "Statistics:", boardSolver.getStats().toString());
+                setUIElementsDisabled(false);
+                return;
+            }
+            if (boardSolver != null && boardSolver.getStats().outcome() == SolverOutcome.UNSOLVABLE) {
+                showAlertDialog("Board Not Solvable", null, "The tiles cannot be slid into order from this board.");
+                setUIElementsDisabled(false);
+                return;
+            }
             if (result == null || result.isEmpty()) {
                 showAlertDialog("Solution Not Found", null,
                         "Solution not found for the selected algorithm and heuristic.");
@@ -174,6 +216,7 @@ public class MainController {
         });
 
         task.setOnFailed(event -> {
+            stopButton.setDisable(true);
             showAlertDialog("Error", null, "An error occurred while solving the board.");
             setUIElementsDisabled(false);
         });
@@ -189,9 +232,10 @@ public class MainController {
      */
     private PauseTransition getTransition(List<Character> result, BoardSolverInterface boardSolver) {
         PauseTransition pause = new PauseTransition(Duration.seconds(0.8));
+        Iterator<Character> moves = result.iterator();
         pause.setOnFinished(event -> {
-            if (!result.isEmpty()) {
-                Character move = result.removeFirst();
+            if (moves.hasNext()) {
+                Character move = moves.next();
                 boardWrapper.moveTile(boardWrapper.getBoard().getEmptyPosition().get(0),
                         boardWrapper.getBoard().getEmptyPosition().get(1), move);
                 pause.playFromStart();
@@ -200,7 +244,7 @@ public class MainController {
                 gridPane.setDisable(false);
                 if (boardSolver != null) {
                     Platform.runLater(() ->
-                            showAlertDialog("Solution Found", "Statistics:", boardSolver.getStats()));
+                            showAlertDialog("Solution Found", "Statistics:", boardSolver.getStats().toString()));
                 }
             }
         });
@@ -247,14 +291,15 @@ public class MainController {
      * Retrieves the solution path from the specified board solver algorithm.
      *
      * @param boardSolver The board solver algorithm to use.
+     * @param limits      The limits of the search.
      * @return The list of moves representing the solution path.
      */
-    private List<Character> getResult(BoardSolverInterface boardSolver) {
+    private List<Character> getResult(BoardSolverInterface boardSolver, SolverLimits limits) {
         String selectedHeuristic = heuristicComboBox.getSelectionModel().getSelectedItem();
         List<Character> result = null;
         if (boardSolver != null) {
             Node root = new Node(boardWrapper.getBoard(), null, 'N', null);
-            result = boardSolver.solve(root, selectedHeuristic);
+            result = boardSolver.solve(root, selectedHeuristic, limits);
         }
         return result;
     }
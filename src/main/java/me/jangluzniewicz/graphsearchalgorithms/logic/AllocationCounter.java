@@ -0,0 +1,49 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * AllocationCounter reads the number of bytes allocated on the heap, as far as the JVM tracks it.
+ * Solvers read it before and after a search and report the difference.
+ */
+final class AllocationCounter {
+    private static final com.sun.management.ThreadMXBean THREADS =
+            ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                    && threads.isThreadAllocatedMemorySupported() ? threads : null;
+
+    private AllocationCounter() {
+    }
+
+    /**
+     * Gets the number of bytes allocated by the current thread so far. Suits solvers that search on the
+     * calling thread.
+     *
+     * @return The allocated bytes, or -1 if the JVM cannot measure them.
+     */
+    static long currentThread() {
+        return THREADS != null && THREADS.isThreadAllocatedMemoryEnabled()
+                ? THREADS.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    /**
+     * Gets the number of bytes allocated by all threads so far. Suits solvers that search on worker threads;
+     * allocations of unrelated threads running at the same time are included.
+     *
+     * @return The allocated bytes, or -1 if the JVM cannot measure them.
+     */
+    static long allThreads() {
+        return THREADS != null && THREADS.isThreadAllocatedMemoryEnabled()
+                ? THREADS.getTotalThreadAllocatedBytes() : -1;
+    }
+
+    /**
+     * Computes the bytes allocated since an earlier reading.
+     *
+     * @param start The earlier reading.
+     * @param end   The later reading.
+     * @return The difference, or -1 if either reading is unavailable.
+     */
+    static long since(long start, long end) {
+        return start < 0 || end < 0 ? -1 : end - start;
+    }
+}
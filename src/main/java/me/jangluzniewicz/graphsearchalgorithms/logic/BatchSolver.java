@@ -0,0 +1,249 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.Board;
+import me.jangluzniewicz.graphsearchalgorithms.model.Node;
+
+import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * BatchSolver solves a stream of boards concurrently, one virtual thread per board, with a cap on the number of
+ * boards solved at the same time. Solvers keep per-run state, so every board gets its own solver instance.
+ * <p>
+ * Results are handed to a consumer on the calling thread as soon as each board is solved, in completion order,
+ * and a summary with the throughput and latency percentiles is returned at the end.
+ */
+public class BatchSolver {
+    private final Supplier<? extends BoardSolverInterface> solverFactory;
+    private final String parameter;
+    private final int maxConcurrency;
+    private final SolverLimits limits;
+
+    /**
+     * Result is the outcome of solving one board.
+     *
+     * @param board        The start board.
+     * @param solution     The moves that solve the board, empty if no solution was found or solving failed.
+     * @param stats        The statistics reported by the solver, or null if solving failed.
+     * @param latencyNanos The time spent solving the board, in nanoseconds.
+     * @param error        The exception thrown by the solver, or null if solving succeeded.
+     */
+    public record Result(Board board, List<Character> solution, SolverStats stats, long latencyNanos,
+                         Throwable error) {
+    }
+
+    /**
+     * Summary aggregates the results of a batch.
+     *
+     * @param solved       The number of boards for which a solution was found.
+     * @param unsolved     The number of boards for which no solution was found or solving failed.
+     * @param elapsedNanos The wall-clock time of the whole batch, in nanoseconds.
+     * @param p50Nanos     The median latency, in nanoseconds.
+     * @param p90Nanos     The 90th percentile latency, in nanoseconds.
+     * @param p99Nanos     The 99th percentile latency, in nanoseconds.
+     * @param maxNanos     The largest latency, in nanoseconds.
+     */
+    public record Summary(int solved, int unsolved, long elapsedNanos, long p50Nanos, long p90Nanos, long p99Nanos,
+                          long maxNanos) {
+
+        /**
+         * Gets the number of boards processed per second.
+         *
+         * @return The throughput of the batch.
+         */
+        public double throughput() {
+            return elapsedNanos == 0 ? 0 : (solved + unsolved) * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        /**
+         * Returns a report of the summary in the format of the solver statistics.
+         *
+         * @return A string containing the board counts, throughput and latency percentiles.
+         */
+        @Override
+        public String toString() {
+            DecimalFormat decimalFormat = new DecimalFormat("#.###");
+            return "Solved boards: " + solved + "\n" +
+                    "Unsolved boards: " + unsolved + "\n" +
+                    "Throughput (boards/s): " + decimalFormat.format(throughput()) + "\n" +
+                    "Latency p50 (ms): " + decimalFormat.format(p50Nanos / 1_000_000.0) + "\n" +
+                    "Latency p90 (ms): " + decimalFormat.format(p90Nanos / 1_000_000.0) + "\n" +
+                    "Latency p99 (ms): " + decimalFormat.format(p99Nanos / 1_000_000.0) + "\n" +
+                    "Latency max (ms): " + decimalFormat.format(maxNanos / 1_000_000.0);
+        }
+    }
+
+    /**
+     * Constructs a BatchSolver without limits on the individual searches.
+     *
+     * @param solverFactory  Creates a new solver for every board.
+     * @param parameter      The parameter passed to every solver.
+     * @param maxConcurrency The largest number of boards solved at the same time.
+     * @throws IllegalArgumentException if the concurrency cap is not positive.
+     */
+    public BatchSolver(Supplier<? extends BoardSolverInterface> solverFactory, String parameter, int maxConcurrency) {
+        this(solverFactory, parameter, maxConcurrency, SolverLimits.NONE);
+    }
+
+    /**
+     * Constructs a BatchSolver that applies limits to every search. A time limit is measured from the start of
+     * each board, not of the batch.
+     *
+     * @param solverFactory  Creates a new solver for every board.
+     * @param parameter      The parameter passed to every solver.
+     * @param maxConcurrency The largest number of boards solved at the same time.
+     * @param limits         The limits of every search.
+     * @throws IllegalArgumentException if the concurrency cap is not positive.
+     */
+    public BatchSolver(Supplier<? extends BoardSolverInterface> solverFactory, String parameter, int maxConcurrency,
+                       SolverLimits limits) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Concurrency cap must be positive");
+        }
+        this.solverFactory = solverFactory;
+        this.parameter = parameter;
+        this.maxConcurrency = maxConcurrency;
+        this.limits = limits;
+    }
+
+    /**
+     * Solves every board of a stream and hands each result to a consumer as soon as it is ready.
+     * The stream is consumed lazily and a board keeps its slot until the consumer has returned from its result,
+     * so no more than the concurrency cap of boards are being solved or waiting for the consumer at once.
+     *
+     * @param boards   The boards to solve.
+     * @param consumer Receives the results in completion order, on the calling thread. If it throws, no further
+     *                 boards are started, the boards being solved are waited for and the exception is rethrown.
+     * @return The summary of the batch.
+     * @throws IllegalStateException if the stream of boards fails.
+     */
+    public Summary solve(Stream<Board> boards, Consumer<? super Result> consumer) {
+        Semaphore permits = new Semaphore(maxConcurrency);
+        BlockingQueue<Object> results = new LinkedBlockingQueue<>();
+        Object end = new Object();
+        List<Long> latencies = new ArrayList<>();
+        int solved = 0;
+        int unsolved = 0;
+        long startTime = System.nanoTime();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.submit(() -> {
+                try {
+                    Iterator<Board> iterator = boards.iterator();
+                    while (true) {
+                        permits.acquireUninterruptibly();
+                        boolean submitted = false;
+                        try {
+                            if (cancelled.get() || !iterator.hasNext()) {
+                                break;
+                            }
+                            Board board = iterator.next();
+                            executor.submit(() -> {
+                                results.add(solveBoard(board));
+                            });
+                            submitted = true;
+                        } finally {
+                            if (!submitted) {
+                                permits.release();
+                            }
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    results.add(e);
+                } finally {
+                    permits.acquireUninterruptibly(maxConcurrency);
+                    results.add(end);
+                }
+            });
+            RuntimeException failure = null;
+            try {
+                for (Object item = take(results); item != end; item = take(results)) {
+                    if (item instanceof RuntimeException e) {
+                        failure = e;
+                        continue;
+                    }
+                    Result result = (Result) item;
+                    latencies.add(result.latencyNanos());
+                    if (result.error() == null && (!result.solution().isEmpty() || result.board().isBoardSolved())) {
+                        solved++;
+                    } else {
+                        unsolved++;
+                    }
+                    try {
+                        consumer.accept(result);
+                    } finally {
+                        permits.release();
+                    }
+                }
+            } catch (RuntimeException | Error e) {
+                cancelled.set(true);
+                permits.release(maxConcurrency);
+                throw e;
+            }
+            if (failure != null) {
+                throw new IllegalStateException("Reading boards failed", failure);
+            }
+        }
+        long elapsed = System.nanoTime() - startTime;
+        Collections.sort(latencies);
+        return new Summary(solved, unsolved, elapsed, percentile(latencies, 50), percentile(latencies, 90),
+                percentile(latencies, 99), latencies.isEmpty() ? 0 : latencies.getLast());
+    }
+
+    /**
+     * Solves a single board with a new solver. Whatever the solver throws is recorded in the result, so every
+     * board yields exactly one result.
+     *
+     * @param board The board to solve.
+     * @return The result for the board.
+     */
+    private Result solveBoard(Board board) {
+        long startTime = System.nanoTime();
+        try {
+            BoardSolverInterface solver = solverFactory.get();
+            List<Character> solution = solver.solve(new Node(board, null, 'N', null), parameter, limits);
+            return new Result(board, solution, solver.getStats(), System.nanoTime() - startTime, null);
+        } catch (Throwable e) {
+            return new Result(board, Collections.emptyList(), null, System.nanoTime() - startTime, e);
+        }
+    }
+
+    /**
+     * Takes the next item from the result queue.
+     *
+     * @param results The result queue.
+     * @return The next item.
+     * @throws IllegalStateException if the calling thread is interrupted.
+     */
+    private static Object take(BlockingQueue<Object> results) {
+        try {
+            return results.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for results", e);
+        }
+    }
+
+    /**
+     * Computes a nearest-rank percentile of sorted values.
+     *
+     * @param sorted     The values in ascending order.
+     * @param percentile The percentile, from 1 to 100.
+     * @return The percentile, or 0 if there are no values.
+     */
+    private static long percentile(List<Long> sorted, int percentile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+        return sorted.get(Math.max(rank, 1) - 1);
+    }
+}
@@ -0,0 +1,91 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.Board;
+import me.jangluzniewicz.graphsearchalgorithms.model.PackedBoard;
+
+/**
+ * BoardAnalysis is the check every solver runs on its initial board before it searches. A board whose tiles
+ * cannot be slid into the solved order is rejected without a search, and a lower bound on the solution length
+ * lets a depth-limited solver give up at once when the bound is above its limit.
+ * <p>
+ * Every move swaps the empty field with a tile, which flips the parity of the permutation of the fields and moves
+ * the empty field one step. On a board with at least two rows and two columns exactly the boards whose permutation
+ * parity equals the parity of the distance of the empty field from its goal field are solvable. On a single row or
+ * column the tiles cannot pass each other, so they must already be in order.
+ *
+ * @param solvable   True if the board can be solved, false otherwise.
+ * @param lowerBound The Manhattan distance with linear conflicts, which no solution is shorter than, or -1 if the
+ *                   board cannot be solved.
+ */
+public record BoardAnalysis(boolean solvable, int lowerBound) {
+
+    /**
+     * Analyses a board.
+     *
+     * @param board The board.
+     * @return The analysis of the board.
+     * @throws IllegalArgumentException if the board has no empty field.
+     */
+    public static BoardAnalysis of(Board board) {
+        int rows = board.getRows();
+        int columns = board.getColumns();
+        if (board.getEmptyIndex() < 0) {
+            throw new IllegalArgumentException("No empty field");
+        }
+        long fields = board.getPackedState();
+        if (!isSolvable(fields, rows, columns)) {
+            return new BoardAnalysis(false, -1);
+        }
+        return new BoardAnalysis(true, new LinearConflictHeuristic(rows, columns).estimate(fields));
+    }
+
+    /**
+     * Checks if a board can be solved, in time linear in the number of fields.
+     *
+     * @param fields  The packed fields of the board, a permutation of 0 to rows * columns - 1.
+     * @param rows    The number of rows on the board.
+     * @param columns The number of columns on the board.
+     * @return True if the board can be solved, false otherwise.
+     */
+    public static boolean isSolvable(long fields, int rows, int columns) {
+        int size = rows * columns;
+        if (rows == 1 || columns == 1) {
+            int expected = 1;
+            for (int i = 0; i < size; i++) {
+                int value = PackedBoard.getFieldValue(fields, i);
+                if (value != 0 && value != expected++) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        int cycles = 0;
+        int seen = 0;
+        int emptyIndex = -1;
+        for (int start = 0; start < size; start++) {
+            if ((seen & (1 << start)) != 0) {
+                continue;
+            }
+            cycles++;
+            for (int i = start; (seen & (1 << i)) == 0; i = goalIndex(PackedBoard.getFieldValue(fields, i), size)) {
+                seen |= 1 << i;
+                if (PackedBoard.getFieldValue(fields, i) == 0) {
+                    emptyIndex = i;
+                }
+            }
+        }
+        int emptyDistance = rows - 1 - emptyIndex / columns + columns - 1 - emptyIndex % columns;
+        return ((size - cycles) & 1) == (emptyDistance & 1);
+    }
+
+    /**
+     * Gets the field a value occupies on the solved board.
+     *
+     * @param value The value of the field, 0 for the empty field.
+     * @param size  The number of fields on the board.
+     * @return The index of the goal field.
+     */
+    private static int goalIndex(int value, int size) {
+        return value == 0 ? size - 1 : value - 1;
+    }
+}
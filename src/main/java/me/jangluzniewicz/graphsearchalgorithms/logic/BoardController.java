@@ -24,28 +24,23 @@ public class BoardController implements BoardControllerInterface {
                 row * board.getColumns() + column < 0) {
             throw new IllegalArgumentException("Invalid index");
         }
-        return switch (direction) {
-            case 'U' -> {
-                board.setFieldValue(row, column, board.getFieldValue(row - 1, column));
-                board.setFieldValue(row - 1, column, 0);
-                yield true;
-            }
-            case 'D' -> {
-                board.setFieldValue(row, column, board.getFieldValue(row + 1, column));
-                board.setFieldValue(row + 1, column, 0);
-                yield true;
-            }
-            case 'L' -> {
-                board.setFieldValue(row, column, board.getFieldValue(row, column - 1));
-                board.setFieldValue(row, column - 1, 0);
-                yield true;
-            }
-            case 'R' -> {
-                board.setFieldValue(row, column, board.getFieldValue(row, column + 1));
-                board.setFieldValue(row, column + 1, 0);
-                yield true;
-            }
-            default -> false;
+        int targetRow = switch (direction) {
+            case 'U' -> row - 1;
+            case 'D' -> row + 1;
+            default -> row;
         };
+        int targetColumn = switch (direction) {
+            case 'L' -> column - 1;
+            case 'R' -> column + 1;
+            default -> column;
+        };
+        if (targetRow == row && targetColumn == column) {
+            return false;
+        }
+        if (targetRow < 0 || targetRow >= board.getRows() || targetColumn < 0 || targetColumn >= board.getColumns()) {
+            throw new IllegalArgumentException("Invalid index");
+        }
+        board.slideTile(targetRow * board.getColumns() + targetColumn, row * board.getColumns() + column);
+        return true;
     }
 }
\ No newline at end of file
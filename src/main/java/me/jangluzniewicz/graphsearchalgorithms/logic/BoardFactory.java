@@ -4,8 +4,7 @@ import me.jangluzniewicz.graphsearchalgorithms.model.Board;
 import me.jangluzniewicz.graphsearchalgorithms.model.Field;
 
 import java.util.ArrayList;
-import java.util.List;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * BoardFactory provides methods to create different types of board configurations for board puzzles.
@@ -51,7 +50,9 @@ public class BoardFactory {
     }
 
     /**
-     * Creates a solvable board with specified rows, columns, and a given depth of scrambling.
+     * Creates a solvable board with specified rows, columns, and a given depth of scrambling. The scramble is a
+     * random walk of the empty field that never moves straight back, drawn by an {@link InstanceGenerator} with
+     * a random seed.
      *
      * @param rows   Number of rows in the board.
      * @param columns Number of columns in the board.
@@ -59,36 +60,7 @@ public class BoardFactory {
      * @return Solvable Board object with fields scrambled to the given depth.
      */
     public static Board getSolvableBoard(int rows, int columns, int depth) {
-        ArrayList<Field> fields = new ArrayList<>();
-        for (int i = 1; i < rows * columns; i++) {
-            fields.add(new Field(i));
-        }
-        fields.add(new Field(0));
-        Board board = getBoard(rows, columns, fields);
-        Random random = new Random();
-        List<Integer> emptyPosition;
-        List<Character> possibleMoves;
-        char lastMove = 'N';
-        for (int i = 0; i < depth; i++) {
-            emptyPosition = board.getEmptyPosition();
-            possibleMoves = board.getPossibleMoves(emptyPosition.get(0), emptyPosition.get(1));
-            if (!possibleMoves.isEmpty()) {
-                boolean canMove;
-                Character move;
-                do {
-                    move = possibleMoves.get(random.nextInt(0, possibleMoves.size()));
-                    canMove = switch (move) {
-                        case 'U' -> lastMove != 'D';
-                        case 'D' -> lastMove != 'U';
-                        case 'L' -> lastMove != 'R';
-                        case 'R' -> lastMove != 'L';
-                        default -> true;
-                    };
-                } while (!canMove);
-                board.move(emptyPosition.get(0), emptyPosition.get(1), move);
-                lastMove = move;
-            }
-        }
-        return board;
+        return new InstanceGenerator(rows, columns, ThreadLocalRandom.current().nextLong())
+                .getBoard(InstanceGenerator.Mode.RANDOM_WALK, Math.max(depth, 0), 0);
     }
 }
\ No newline at end of file
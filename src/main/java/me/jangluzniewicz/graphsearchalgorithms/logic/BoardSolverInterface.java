@@ -16,12 +16,35 @@ public interface BoardSolverInterface {
      * @param parameter An additional parameter to customize the solving process.
      * @return A list of characters representing the sequence of moves to solve the puzzle.
      */
-    List<Character> solve(Node root, String parameter);
+    default List<Character> solve(Node root, String parameter) {
+        return solve(root, parameter, SolverLimits.NONE);
+    }
+
+    /**
+     * Solves the puzzle starting from the given root node, stopping early when a limit is hit. A stopped search
+     * returns an empty list, and its statistics hold the figures up to the stop and the limit that was hit.
+     *
+     * @param root      The root node representing the initial state of the board.
+     * @param parameter An additional parameter to customize the solving process.
+     * @param limits    The deadline, node budget, memory budget and cancellation token of the search.
+     * @return A list of characters representing the sequence of moves to solve the puzzle.
+     */
+    List<Character> solve(Node root, String parameter, SolverLimits limits);
+
+    /**
+     * Gets the name of the solver, under which a {@link CachingSolver} caches its searches. Solvers whose
+     * configuration changes the solutions they find include it in the name.
+     *
+     * @return The name of the solver, by default its simple class name.
+     */
+    default String getName() {
+        return getClass().getSimpleName();
+    }
 
     /**
      * Gets statistics about the solving process.
      *
-     * @return A string containing statistics about the solving process.
+     * @return The statistics of the last search.
      */
-    String getStats();
+    SolverStats getStats();
 }
@@ -19,15 +19,6 @@ public class BoardValidator implements BoardValidatorInterface {
 
     @Override
     public boolean isBoardSolved(Board board) {
-        int rows = board.getRows();
-        int columns = board.getColumns();
-        for (int i = 0; i < rows * columns - 1; i++) {
-            int x = i / columns;
-            int y = i % columns;
-            if (board.getFieldValue(x, y) != i + 1) {
-                return false;
-            }
-        }
-        return board.getFieldValue(rows - 1, columns - 1) == 0;
+        return board.getPackedState() == Board.getSolvedState(board.getRows(), board.getColumns());
     }
 }
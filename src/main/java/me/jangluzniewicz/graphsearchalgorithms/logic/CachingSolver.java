@@ -0,0 +1,154 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.Board;
+import me.jangluzniewicz.graphsearchalgorithms.model.BoardSymmetry;
+import me.jangluzniewicz.graphsearchalgorithms.model.Node;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CachingSolver answers searches from a {@link SolutionCache} and hands the searches it has not seen to another
+ * solver. A cached search returns the stored moves and statistics without searching, and its statistics carry
+ * the tier that answered it.
+ * <p>
+ * On square boards a state and its reflection about the main diagonal share one entry, keyed by the smaller of
+ * the two. The moves of a reflected state are stored reflected and are reflected back when they are returned.
+ * A move-order parameter is reflected along with the state, since searching the reflected board with the
+ * reflected move order mirrors the search of the board step for step.
+ * <p>
+ * Only searches that ran to completion are stored: a solution, or the proof that the solver finds none. A search
+ * stopped by a limit is not stored, since a later search with other limits may finish.
+ */
+public class CachingSolver implements BoardSolverInterface {
+    private final BoardSolverInterface solver;
+    private final SolutionCache cache;
+    private final String algorithm;
+    private SolverStats stats;
+
+    /**
+     * Constructs a CachingSolver that keys its searches by the name of the solver, which includes the
+     * configuration that changes its solutions.
+     *
+     * @param solver The solver used when a search is not cached.
+     * @param cache  The cache, which may be shared with other caching solvers.
+     */
+    public CachingSolver(BoardSolverInterface solver, SolutionCache cache) {
+        this(solver, cache, solver.getName());
+    }
+
+    /**
+     * Constructs a CachingSolver with an explicit algorithm name, for solvers whose configuration changes the
+     * solutions they find.
+     *
+     * @param solver    The solver used when a search is not cached.
+     * @param cache     The cache, which may be shared with other caching solvers.
+     * @param algorithm The name under which the searches of the solver are cached.
+     */
+    public CachingSolver(BoardSolverInterface solver, SolutionCache cache, String algorithm) {
+        this.solver = solver;
+        this.cache = cache;
+        this.algorithm = algorithm;
+    }
+
+    /**
+     * Solves the board puzzle from the cache, or with the solver if the search is not cached.
+     *
+     * @param root      The root node representing the initial state of the board.
+     * @param parameter The parameter of the solver.
+     * @param limits    The limits of the search, applied only when the solver runs.
+     * @return A list of characters representing the sequence of moves to solve the puzzle.
+     */
+    @Override
+    public List<Character> solve(Node root, String parameter, SolverLimits limits) {
+        Board board = root.getState();
+        long state = board.getPackedState();
+        boolean reflected = false;
+        if (BoardSymmetry.isSymmetric(board.getRows(), board.getColumns())) {
+            long transposed = BoardSymmetry.transpose(state, board.getRows());
+            reflected = transposed < state;
+            state = Math.min(state, transposed);
+        }
+        SolutionCache.Key key = new SolutionCache.Key(state, board.getRows(), board.getColumns(), algorithm,
+                isMoveOrder(parameter) ? reflectMoveOrder(parameter, reflected) : parameter);
+        SolutionCache.Hit hit = cache.get(key);
+        if (hit != null) {
+            SolutionCache.Entry entry = hit.entry();
+            List<Character> path = new ArrayList<>();
+            if (entry.stats().outcome() == SolverOutcome.SOLVED) {
+                path.addAll(root.getPath());
+                path.addAll(reflected ? reflect(entry.moves()) : entry.moves());
+            }
+            Map<String, String> details = new LinkedHashMap<>(entry.stats().details());
+            details.put("Cache", hit.fromDisk() ? "disk hit" : "memory hit");
+            SolverStats cached = entry.stats();
+            stats = new SolverStats(cached.outcome() == SolverOutcome.SOLVED ? path.size() : -1,
+                    cached.visitedStates(), cached.processedStates(), cached.maxDepth(), cached.elapsedNanos(),
+                    cached.peakFrontierSize(), cached.peakVisitedSize(), cached.allocatedBytes(), cached.outcome(),
+                    details);
+            return path;
+        }
+        List<Character> result = solver.solve(root, parameter, limits);
+        SolverStats solved = solver.getStats();
+        if (solved.outcome() == SolverOutcome.SOLVED) {
+            List<Character> moves = result.subList(root.getPath().size(), result.size());
+            cache.put(key, new SolutionCache.Entry(List.copyOf(reflected ? reflect(moves) : moves), solved));
+        } else if (solved.outcome() == SolverOutcome.EXHAUSTED) {
+            cache.put(key, new SolutionCache.Entry(List.of(), solved));
+        }
+        Map<String, String> details = new LinkedHashMap<>(solved.details());
+        details.put("Cache", "miss");
+        stats = new SolverStats(solved.solutionLength(), solved.visitedStates(), solved.processedStates(),
+                solved.maxDepth(), solved.elapsedNanos(), solved.peakFrontierSize(), solved.peakVisitedSize(),
+                solved.allocatedBytes(), solved.outcome(), details);
+        return result;
+    }
+
+    /**
+     * Checks if a parameter is a move order rather than the name of a heuristic.
+     *
+     * @param parameter The parameter of the solver.
+     * @return True if the parameter consists of directions only, false otherwise.
+     */
+    private static boolean isMoveOrder(String parameter) {
+        return !parameter.isEmpty() && parameter.chars().allMatch(c -> "UDLR".indexOf(c) >= 0);
+    }
+
+    /**
+     * Expands a move order to the full order of directions the solver tries, reflected about the main diagonal
+     * if the board is.
+     *
+     * @param parameter The move-order parameter.
+     * @param reflected True if the cache key is the reflection of the board.
+     * @return The move order of the cache key.
+     */
+    private static String reflectMoveOrder(String parameter, boolean reflected) {
+        char[] order = MoveOrder.compile(parameter);
+        for (int i = 0; reflected && i < order.length; i++) {
+            order[i] = BoardSymmetry.transposeMove(order[i]);
+        }
+        return new String(order);
+    }
+
+    /**
+     * Reflects moves about the main diagonal.
+     *
+     * @param moves The moves to reflect.
+     * @return The reflected moves.
+     */
+    private static List<Character> reflect(List<Character> moves) {
+        return moves.stream().map(BoardSymmetry::transposeMove).toList();
+    }
+
+    /**
+     * Retrieves statistics about the solving process.
+     *
+     * @return The statistics of the last search, either stored in the cache or reported by the solver.
+     */
+    @Override
+    public SolverStats getStats() {
+        return stats;
+    }
+}
@@ -0,0 +1,25 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+/**
+ * CancellationToken lets another thread ask a running search to stop. Solvers poll it from their main loop, so
+ * a search stops shortly after {@link #cancel()} is called rather than immediately.
+ */
+public final class CancellationToken {
+    private volatile boolean cancelled;
+
+    /**
+     * Asks every search that uses this token to stop.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Checks if the token has been cancelled.
+     *
+     * @return True if {@link #cancel()} has been called, false otherwise.
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
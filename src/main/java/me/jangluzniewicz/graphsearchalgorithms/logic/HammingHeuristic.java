@@ -0,0 +1,22 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+/**
+ * HammingHeuristic counts the tiles that are not on their goal field.
+ */
+public class HammingHeuristic extends TileErrorHeuristic {
+
+    /**
+     * Constructs a HammingHeuristic for the specified board size.
+     *
+     * @param rows    The number of rows on the board.
+     * @param columns The number of columns on the board.
+     */
+    public HammingHeuristic(int rows, int columns) {
+        super(rows, columns);
+    }
+
+    @Override
+    int tileError(int rowDistance, int columnDistance) {
+        return rowDistance + columnDistance != 0 ? 1 : 0;
+    }
+}
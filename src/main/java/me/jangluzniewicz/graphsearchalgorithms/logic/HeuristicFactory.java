@@ -0,0 +1,29 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+/**
+ * HeuristicFactory creates heuristics from the parameter strings accepted by the A*-family solvers.
+ */
+public class HeuristicFactory {
+
+    /**
+     * Creates a heuristic for the specified board size.
+     *
+     * @param parameter The heuristic name ("MANH" for Manhattan distance, "HAMM" for Hamming distance,
+     *                  "LINC" for Manhattan distance with linear conflicts, "WALK" for walking distance,
+     *                  "PDB" for the default additive pattern databases).
+     * @param rows      Number of rows in the board.
+     * @param columns   Number of columns in the board.
+     * @return The heuristic for the given name and board size.
+     * @throws IllegalArgumentException if the heuristic name is not supported.
+     */
+    public static HeuristicInterface getHeuristic(String parameter, int rows, int columns) {
+        return switch (parameter) {
+            case "MANH" -> new ManhattanHeuristic(rows, columns);
+            case "HAMM" -> new HammingHeuristic(rows, columns);
+            case "LINC" -> new LinearConflictHeuristic(rows, columns);
+            case "WALK" -> new WalkingDistanceHeuristic(rows, columns);
+            case "PDB" -> PatternDatabaseHeuristic.getDefault(rows, columns);
+            default -> throw new IllegalArgumentException("Invalid parameter");
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+/**
+ * Interface for admissible heuristics that estimate the number of moves from a board state to the solved state.
+ * Implementations are built for one board size and evaluate packed board states.
+ */
+public interface HeuristicInterface {
+
+    /**
+     * Estimates the remaining number of moves for a board state.
+     *
+     * @param fields The packed fields of the board.
+     * @return A lower bound on the number of moves to the solved state.
+     */
+    int estimate(long fields);
+
+    /**
+     * Estimates the remaining number of moves for a board state reached by a single move, given the estimate of
+     * the previous state. Implementations that can only evaluate whole boards fall back to {@link #estimate(long)}.
+     *
+     * @param fields   The packed fields of the board after the move.
+     * @param estimate The estimate of the board before the move.
+     * @param value    The value of the tile that slid.
+     * @param from     The index of the field the tile left.
+     * @param to       The index of the field the tile entered.
+     * @return A lower bound on the number of moves to the solved state.
+     */
+    default int update(long fields, int estimate, int value, int from, int to) {
+        return estimate(fields);
+    }
+}
@@ -0,0 +1,202 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.Node;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * IndexedBucketQueue is an open list of nodes kept in buckets by total cost and, within a total cost, by depth.
+ * Polling takes the lowest total cost and the greatest depth, and the most recently added node of that bucket,
+ * so ties are broken towards the goal. Total costs of puzzle states are small integers, which makes adding and
+ * polling O(1) apart from skipping empty buckets.
+ * <p>
+ * Every queued node is indexed by board state with its bucket and position, so a queued node can be found and
+ * replaced in O(1). Replacing swaps the last node of the bucket into the freed position.
+ */
+final class IndexedBucketQueue implements OpenListInterface {
+    private static final int INDEX_BITS = 40;
+    private static final int COST_BITS = 12;
+    private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+    private static final int COST_MASK = (1 << COST_BITS) - 1;
+    private static final int DEFAULT_BUCKET_CAPACITY = 16;
+
+    private Node[][][] buckets = new Node[0][][];
+    private int[][] bucketSizes = new int[0][];
+    private int[] costSizes = new int[0];
+    private final LongLongHashMap locations = new LongLongHashMap();
+    private int minimumCost;
+    private int size;
+
+    /**
+     * Adds a node whose state is not queued yet.
+     *
+     * @param node The node to add.
+     * @throws IllegalArgumentException if the total cost or depth of the node is negative or too large.
+     */
+    @Override
+    public void add(Node node) {
+        int cost = node.getTotalCost();
+        int depth = node.getDepth();
+        if (cost < 0 || cost > COST_MASK || depth < 0 || depth > COST_MASK) {
+            throw new IllegalArgumentException("Cost out of range");
+        }
+        ensureBucket(cost, depth);
+        Node[] bucket = buckets[cost][depth];
+        int index = bucketSizes[cost][depth];
+        if (index == bucket.length) {
+            bucket = Arrays.copyOf(bucket, index << 1);
+            buckets[cost][depth] = bucket;
+        }
+        bucket[index] = node;
+        bucketSizes[cost][depth]++;
+        locations.put(node.getState().getPackedState(), locate(cost, depth, index));
+        costSizes[cost]++;
+        if (size++ == 0 || cost < minimumCost) {
+            minimumCost = cost;
+        }
+    }
+
+    /**
+     * Removes a node with the lowest total cost, preferring the greatest depth.
+     *
+     * @return The removed node.
+     * @throws NoSuchElementException if the queue is empty.
+     */
+    @Override
+    public Node poll() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        while (costSizes[minimumCost] == 0) {
+            minimumCost++;
+        }
+        int[] sizes = bucketSizes[minimumCost];
+        int depth = sizes.length - 1;
+        while (sizes[depth] == 0) {
+            depth--;
+        }
+        Node node = buckets[minimumCost][depth][sizes[depth] - 1];
+        remove(minimumCost, depth, sizes[depth] - 1);
+        locations.remove(node.getState().getPackedState());
+        return node;
+    }
+
+    /**
+     * Gets the queued node with the specified state.
+     *
+     * @param state The packed board state.
+     * @return The queued node, or null if no node with this state is queued.
+     */
+    @Override
+    public Node get(long state) {
+        long location = locations.get(state, -1);
+        if (location < 0) {
+            return null;
+        }
+        return buckets[costOf(location)][depthOf(location)][(int) (location & INDEX_MASK)];
+    }
+
+    /**
+     * Replaces a queued node with a node for the same state and a lower or equal total cost.
+     *
+     * @param queued      The node currently queued.
+     * @param replacement The node that takes its place.
+     * @throws IllegalArgumentException if the node is not queued.
+     */
+    @Override
+    public void decreaseKey(Node queued, Node replacement) {
+        long location = locations.get(queued.getState().getPackedState(), -1);
+        if (location < 0 || get(queued.getState().getPackedState()) != queued) {
+            throw new IllegalArgumentException("Node is not queued");
+        }
+        remove(costOf(location), depthOf(location), (int) (location & INDEX_MASK));
+        add(replacement);
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return True if no nodes are queued, false otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the number of queued nodes.
+     *
+     * @return The number of nodes.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes the node at a position of a bucket by moving the last node of the bucket into its place.
+     * The index entry of the removed node is left to the caller.
+     *
+     * @param cost  The total cost of the bucket.
+     * @param depth The depth of the bucket.
+     * @param index The position in the bucket.
+     */
+    private void remove(int cost, int depth, int index) {
+        Node[] bucket = buckets[cost][depth];
+        int last = --bucketSizes[cost][depth];
+        if (index != last) {
+            bucket[index] = bucket[last];
+            locations.put(bucket[index].getState().getPackedState(), locate(cost, depth, index));
+        }
+        bucket[last] = null;
+        costSizes[cost]--;
+        size--;
+    }
+
+    /**
+     * Grows the bucket tables so that they hold a bucket for the specified total cost and depth.
+     *
+     * @param cost  The total cost.
+     * @param depth The depth.
+     */
+    private void ensureBucket(int cost, int depth) {
+        if (cost >= buckets.length) {
+            int length = Math.max(cost + 1, buckets.length << 1);
+            buckets = Arrays.copyOf(buckets, length);
+            bucketSizes = Arrays.copyOf(bucketSizes, length);
+            costSizes = Arrays.copyOf(costSizes, length);
+        }
+        if (buckets[cost] == null) {
+            buckets[cost] = new Node[depth + 1][];
+            bucketSizes[cost] = new int[depth + 1];
+        } else if (depth >= buckets[cost].length) {
+            buckets[cost] = Arrays.copyOf(buckets[cost], depth + 1);
+            bucketSizes[cost] = Arrays.copyOf(bucketSizes[cost], depth + 1);
+        }
+        if (buckets[cost][depth] == null) {
+            buckets[cost][depth] = new Node[DEFAULT_BUCKET_CAPACITY];
+        }
+    }
+
+    /**
+     * Packs the location of a node into a single value.
+     */
+    private static long locate(int cost, int depth, int index) {
+        return ((long) cost << (INDEX_BITS + COST_BITS)) | ((long) depth << INDEX_BITS) | index;
+    }
+
+    /**
+     * Unpacks the total cost from a location.
+     */
+    private static int costOf(long location) {
+        return (int) (location >>> (INDEX_BITS + COST_BITS));
+    }
+
+    /**
+     * Unpacks the depth from a location.
+     */
+    private static int depthOf(long location) {
+        return (int) (location >>> INDEX_BITS) & COST_MASK;
+    }
+}
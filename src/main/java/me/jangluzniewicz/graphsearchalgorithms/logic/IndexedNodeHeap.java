@@ -0,0 +1,164 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.Node;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * IndexedNodeHeap is a binary min-heap of nodes ordered by total cost, indexed by board state.
+ * The index gives O(1) membership tests and lets a queued node be replaced by a cheaper one in O(log n).
+ */
+final class IndexedNodeHeap implements OpenListInterface {
+    private static final int DEFAULT_CAPACITY = 1 << 10;
+
+    private Node[] heap;
+    private final LongLongHashMap slots;
+    private int size;
+
+    /**
+     * Constructs an empty IndexedNodeHeap.
+     */
+    IndexedNodeHeap() {
+        heap = new Node[DEFAULT_CAPACITY];
+        slots = new LongLongHashMap();
+    }
+
+    /**
+     * Adds a node whose state is not in the heap yet.
+     *
+     * @param node The node to add.
+     */
+    @Override
+    public void add(Node node) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size << 1);
+        }
+        heap[size] = node;
+        slots.put(node.getState().getPackedState(), size);
+        siftUp(size++);
+    }
+
+    /**
+     * Removes the node with the lowest total cost.
+     *
+     * @return The removed node.
+     * @throws NoSuchElementException if the heap is empty.
+     */
+    @Override
+    public Node poll() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        Node first = heap[0];
+        slots.remove(first.getState().getPackedState());
+        Node last = heap[--size];
+        heap[size] = null;
+        if (size > 0) {
+            heap[0] = last;
+            slots.put(last.getState().getPackedState(), 0);
+            siftDown(0);
+        }
+        return first;
+    }
+
+    /**
+     * Gets the queued node with the specified state.
+     *
+     * @param state The packed board state.
+     * @return The queued node, or null if no node with this state is queued.
+     */
+    @Override
+    public Node get(long state) {
+        int slot = (int) slots.get(state, -1);
+        return slot >= 0 ? heap[slot] : null;
+    }
+
+    /**
+     * Replaces a queued node with a node for the same state and a lower or equal total cost.
+     *
+     * @param queued      The node currently in the heap.
+     * @param replacement The node that takes its place.
+     */
+    @Override
+    public void decreaseKey(Node queued, Node replacement) {
+        int slot = (int) slots.get(queued.getState().getPackedState(), -1);
+        if (slot < 0 || heap[slot] != queued) {
+            throw new IllegalArgumentException("Node is not queued");
+        }
+        heap[slot] = replacement;
+        siftUp(slot);
+    }
+
+    /**
+     * Checks if the heap is empty.
+     *
+     * @return True if no nodes are queued, false otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the number of queued nodes.
+     *
+     * @return The number of nodes.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Moves the node at the specified slot towards the root until the heap order holds.
+     *
+     * @param slot The slot of the node.
+     */
+    private void siftUp(int slot) {
+        Node node = heap[slot];
+        while (slot > 0) {
+            int parent = (slot - 1) >>> 1;
+            if (heap[parent].compareTo(node) <= 0) {
+                break;
+            }
+            place(heap[parent], slot);
+            slot = parent;
+        }
+        place(node, slot);
+    }
+
+    /**
+     * Moves the node at the specified slot towards the leaves until the heap order holds.
+     *
+     * @param slot The slot of the node.
+     */
+    private void siftDown(int slot) {
+        Node node = heap[slot];
+        int half = size >>> 1;
+        while (slot < half) {
+            int child = (slot << 1) + 1;
+            int right = child + 1;
+            if (right < size && heap[right].compareTo(heap[child]) < 0) {
+                child = right;
+            }
+            if (node.compareTo(heap[child]) <= 0) {
+                break;
+            }
+            place(heap[child], slot);
+            slot = child;
+        }
+        place(node, slot);
+    }
+
+    /**
+     * Stores a node in a slot and records the slot in the index.
+     *
+     * @param node The node to store.
+     * @param slot The slot to store it in.
+     */
+    private void place(Node node, int slot) {
+        heap[slot] = node;
+        slots.put(node.getState().getPackedState(), slot);
+    }
+}
@@ -0,0 +1,376 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.Board;
+import me.jangluzniewicz.graphsearchalgorithms.model.Field;
+import me.jangluzniewicz.graphsearchalgorithms.model.MoveTable;
+import me.jangluzniewicz.graphsearchalgorithms.model.PackedBoard;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * InstanceGenerator produces reproducible solvable boards for benchmarks. Every instance is drawn from its own
+ * random generator, seeded from the generator seed and the index of the instance, so instance {@code i} is the
+ * same whether it is generated alone, in a stream or on any thread of a parallel run.
+ * <p>
+ * There are three modes:
+ * <ul>
+ *     <li>{@link Mode#UNIFORM} draws every solvable board with the same probability.</li>
+ *     <li>{@link Mode#RANDOM_WALK} moves the empty field of the solved board a number of times, never straight
+ *     back, as {@link BoardFactory#getSolvableBoard(int, int, int)} does.</li>
+ *     <li>{@link Mode#DISTANCE} draws a board whose shortest solution has exactly the given length. The boards at
+ *     that distance are found once by a breadth-first search backwards from the solved board and kept in
+ *     memory, so the mode suits distances whose layer fits into memory, about 20 moves on the 4x4 board.</li>
+ * </ul>
+ */
+public final class InstanceGenerator {
+    private static final char[] DIRECTIONS = {'U', 'D', 'L', 'R'};
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final int CHUNK_SIZE = 1 << 14;
+    private static final long NO_STATE = -1L;
+
+    /**
+     * The ways an instance can be drawn.
+     */
+    public enum Mode {
+        /**
+         * Every solvable board is equally likely; the parameter is ignored.
+         */
+        UNIFORM,
+        /**
+         * A random walk from the solved board; the parameter is the number of moves.
+         */
+        RANDOM_WALK,
+        /**
+         * A board at an exact distance from the solved board; the parameter is the length of its shortest
+         * solution.
+         */
+        DISTANCE
+    }
+
+    private final int rows;
+    private final int columns;
+    private final long seed;
+    private final MoveTable moveTable;
+    private volatile Layer layer;
+
+    /**
+     * The boards at one distance from the solved board.
+     *
+     * @param distance The length of the shortest solutions.
+     * @param states   The sorted packed fields of the boards.
+     */
+    private record Layer(int distance, long[] states) {
+    }
+
+    /**
+     * Constructs an InstanceGenerator.
+     *
+     * @param rows    The number of rows on the board.
+     * @param columns The number of columns on the board.
+     * @param seed    The seed all instances are derived from.
+     * @throws IllegalArgumentException if the board does not have between 1 and 16 fields.
+     */
+    public InstanceGenerator(int rows, int columns, long seed) {
+        this.moveTable = MoveTable.of(rows, columns);
+        this.rows = rows;
+        this.columns = columns;
+        this.seed = seed;
+    }
+
+    /**
+     * Generates an instance as packed fields.
+     *
+     * @param mode      The way the instance is drawn.
+     * @param parameter The number of moves of a random walk or the distance of the board, ignored for uniform
+     *                  boards.
+     * @param index     The index of the instance.
+     * @return The packed fields of the board.
+     * @throws IllegalArgumentException if the parameter is negative or no board is at the requested distance.
+     */
+    public long generate(Mode mode, int parameter, long index) {
+        if (parameter < 0) {
+            throw new IllegalArgumentException("Parameter must not be negative");
+        }
+        SplittableRandom random = new SplittableRandom(mix(seed + GOLDEN_GAMMA * (index + 1)));
+        return switch (mode) {
+            case UNIFORM -> uniform(random);
+            case RANDOM_WALK -> randomWalk(random, parameter);
+            case DISTANCE -> {
+                long[] states = getLayer(parameter);
+                yield states[random.nextInt(states.length)];
+            }
+        };
+    }
+
+    /**
+     * Generates an instance as a board.
+     *
+     * @param mode      The way the instance is drawn.
+     * @param parameter The number of moves of a random walk or the distance of the board, ignored for uniform
+     *                  boards.
+     * @param index     The index of the instance.
+     * @return The board.
+     * @throws IllegalArgumentException if the parameter is negative or no board is at the requested distance.
+     */
+    public Board getBoard(Mode mode, int parameter, long index) {
+        return toBoard(generate(mode, parameter, index));
+    }
+
+    /**
+     * Streams the instances with indices 0 to count - 1 in index order, generating them lazily.
+     *
+     * @param mode      The way the instances are drawn.
+     * @param parameter The number of moves of a random walk or the distance of the boards, ignored for uniform
+     *                  boards.
+     * @param count     The number of instances.
+     * @return The boards.
+     * @throws IllegalArgumentException if the parameter or the count is negative.
+     */
+    public Stream<Board> boards(Mode mode, int parameter, long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must not be negative");
+        }
+        if (parameter < 0) {
+            throw new IllegalArgumentException("Parameter must not be negative");
+        }
+        return LongStream.range(0, count).mapToObj(index -> getBoard(mode, parameter, index));
+    }
+
+    /**
+     * Writes the instances with indices 0 to count - 1 to a text file, one board per line with its field values
+     * separated by commas in row-major order. The instances are generated on all cores in chunks and written in
+     * index order as each chunk completes, so the file is the same for any number of cores.
+     *
+     * @param mode      The way the instances are drawn.
+     * @param parameter The number of moves of a random walk or the distance of the boards, ignored for uniform
+     *                  boards.
+     * @param count     The number of instances.
+     * @param file      The file to create or truncate.
+     * @throws IOException              if the file cannot be written.
+     * @throws IllegalArgumentException if the parameter or the count is negative or no board is at the
+     *                                  requested distance.
+     */
+    public void write(Mode mode, int parameter, long count, Path file) throws IOException {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must not be negative");
+        }
+        if (parameter < 0) {
+            throw new IllegalArgumentException("Parameter must not be negative");
+        }
+        int size = rows * columns;
+        StringBuilder line = new StringBuilder();
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.US_ASCII)) {
+            for (long start = 0; start < count; start += CHUNK_SIZE) {
+                long first = start;
+                long[] chunk = new long[(int) Math.min(CHUNK_SIZE, count - start)];
+                Arrays.parallelSetAll(chunk, i -> generate(mode, parameter, first + i));
+                for (long fields : chunk) {
+                    line.setLength(0);
+                    for (int i = 0; i < size; i++) {
+                        if (i > 0) {
+                            line.append(',');
+                        }
+                        line.append(PackedBoard.getFieldValue(fields, i));
+                    }
+                    writer.write(line.toString());
+                    writer.newLine();
+                }
+            }
+        }
+    }
+
+    /**
+     * Draws a uniformly random solvable board. A random permutation is solvable with probability one half, and
+     * swapping two tiles maps the unsolvable permutations one to one onto the solvable ones, so swapping the
+     * first two tiles of an unsolvable permutation keeps the draw uniform.
+     *
+     * @param random The random generator of the instance.
+     * @return The packed fields of the board.
+     */
+    private long uniform(SplittableRandom random) {
+        int size = rows * columns;
+        if (rows == 1 || columns == 1) {
+            int emptyIndex = random.nextInt(size);
+            long fields = 0;
+            for (int i = 0, value = 1; i < size; i++) {
+                fields = PackedBoard.setFieldValue(fields, i, i == emptyIndex ? 0 : value++);
+            }
+            return fields;
+        }
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+        long fields = 0;
+        for (int i = 0; i < size; i++) {
+            fields = PackedBoard.setFieldValue(fields, i, values[i]);
+        }
+        if (!BoardAnalysis.isSolvable(fields, rows, columns)) {
+            int first = values[0] != 0 ? 0 : 1;
+            int second = values[first + 1] != 0 ? first + 1 : first + 2;
+            fields = PackedBoard.setFieldValue(fields, first, values[second]);
+            fields = PackedBoard.setFieldValue(fields, second, values[first]);
+        }
+        return fields;
+    }
+
+    /**
+     * Moves the empty field of the solved board at random, choosing among the moves that do not undo the previous
+     * one. Where the only move undoes the previous one, as at the ends of a single row, it is taken.
+     *
+     * @param random The random generator of the instance.
+     * @param moves  The number of moves.
+     * @return The packed fields of the board.
+     */
+    private long randomWalk(SplittableRandom random, int moves) {
+        long fields = Board.getSolvedState(rows, columns);
+        int emptyIndex = rows * columns - 1;
+        int[] targets = new int[DIRECTIONS.length];
+        char[] candidates = new char[DIRECTIONS.length];
+        char lastMove = 0;
+        for (int step = 0; step < moves; step++) {
+            char inverse = lastMove != 0 ? PackedBoard.getInverseMove(lastMove) : 0;
+            int count = 0;
+            int inverseTarget = -1;
+            for (char direction : DIRECTIONS) {
+                int target = moveTable.getTarget(emptyIndex, direction);
+                if (target < 0) {
+                    continue;
+                }
+                if (direction == inverse) {
+                    inverseTarget = target;
+                    continue;
+                }
+                targets[count] = target;
+                candidates[count++] = direction;
+            }
+            if (count == 0) {
+                if (inverseTarget < 0) {
+                    break;
+                }
+                targets[count] = inverseTarget;
+                candidates[count++] = inverse;
+            }
+            int choice = random.nextInt(count);
+            fields = PackedBoard.slideTile(fields, targets[choice], emptyIndex);
+            emptyIndex = targets[choice];
+            lastMove = candidates[choice];
+        }
+        return fields;
+    }
+
+    /**
+     * Gets the boards at a distance from the solved board, searching backwards from the solved board the first
+     * time. Every move takes the empty field to a field of the other colour of a checkerboard, so every neighbour
+     * of a layer lies in the previous or the next layer, and each layer is built from the last two alone.
+     *
+     * @param distance The length of the shortest solutions.
+     * @return The sorted packed fields of the boards.
+     * @throws IllegalArgumentException if no board is at the distance.
+     */
+    private long[] getLayer(int distance) {
+        Layer cached = layer;
+        if (cached != null && cached.distance() == distance) {
+            return cached.states();
+        }
+        synchronized (this) {
+            cached = layer;
+            if (cached != null && cached.distance() == distance) {
+                return cached.states();
+            }
+            long[] states = search(distance);
+            layer = new Layer(distance, states);
+            return states;
+        }
+    }
+
+    /**
+     * Searches backwards from the solved board to a distance.
+     *
+     * @param distance The length of the shortest solutions.
+     * @return The sorted packed fields of the boards at the distance.
+     * @throws IllegalArgumentException if no board is at the distance.
+     */
+    private long[] search(int distance) {
+        long[] previous = new long[0];
+        long[] current = {Board.getSolvedState(rows, columns)};
+        for (int depth = 0; depth < distance && current.length > 0; depth++) {
+            long[] next = expand(current, previous);
+            previous = current;
+            current = next;
+        }
+        if (current.length == 0) {
+            throw new IllegalArgumentException("No board at distance " + distance);
+        }
+        return current;
+    }
+
+    /**
+     * Builds the next layer of the backward search on all cores.
+     *
+     * @param current  The sorted boards of the current layer.
+     * @param previous The sorted boards of the previous layer.
+     * @return The sorted boards of the next layer.
+     */
+    private long[] expand(long[] current, long[] previous) {
+        int size = rows * columns;
+        long[] children = new long[current.length * DIRECTIONS.length];
+        Arrays.parallelSetAll(children, i -> {
+            long fields = current[i / DIRECTIONS.length];
+            int emptyIndex = PackedBoard.findEmptyIndex(fields, size);
+            int target = moveTable.getTarget(emptyIndex, DIRECTIONS[i % DIRECTIONS.length]);
+            return target < 0 ? NO_STATE : PackedBoard.slideTile(fields, target, emptyIndex);
+        });
+        Arrays.parallelSort(children);
+        int count = 0;
+        for (int i = 0; i < children.length; i++) {
+            long child = children[i];
+            if (child != NO_STATE && (count == 0 || children[count - 1] != child)
+                    && Arrays.binarySearch(previous, child) < 0) {
+                children[count++] = child;
+            }
+        }
+        return Arrays.copyOf(children, count);
+    }
+
+    /**
+     * Builds a board from packed fields.
+     *
+     * @param fields The packed fields.
+     * @return The board.
+     */
+    private Board toBoard(long fields) {
+        ArrayList<Field> fieldsArray = new ArrayList<>(rows * columns);
+        for (int i = 0; i < rows * columns; i++) {
+            fieldsArray.add(new Field(PackedBoard.getFieldValue(fields, i)));
+        }
+        return BoardFactory.getBoard(rows, columns, fieldsArray);
+    }
+
+    /**
+     * Scrambles a 64-bit value, so that consecutive instance indices give unrelated seeds.
+     *
+     * @param value The value.
+     * @return The scrambled value.
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
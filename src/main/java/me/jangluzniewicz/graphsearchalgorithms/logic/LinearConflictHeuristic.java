@@ -0,0 +1,119 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.PackedBoard;
+
+/**
+ * LinearConflictHeuristic adds linear conflicts to the Manhattan distance. Two tiles are in conflict when both
+ * are in their goal row (or column) but in reversed order, so one of them has to leave the line and come back.
+ * Each line contributes two moves for every tile that must leave it, which is the line length minus the longest
+ * increasing run of goal positions among the tiles that belong to the line.
+ * <p>
+ * Instances reuse scratch arrays and must not be shared between threads.
+ */
+public class LinearConflictHeuristic implements HeuristicInterface {
+    private final int rows;
+    private final int columns;
+    private final ManhattanHeuristic manhattan;
+    private final int[] sequence;
+    private final int[] runs;
+
+    /**
+     * Constructs a LinearConflictHeuristic for the specified board size.
+     *
+     * @param rows    The number of rows on the board.
+     * @param columns The number of columns on the board.
+     */
+    public LinearConflictHeuristic(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        this.manhattan = new ManhattanHeuristic(rows, columns);
+        this.sequence = new int[Math.max(rows, columns)];
+        this.runs = new int[Math.max(rows, columns)];
+    }
+
+    @Override
+    public int estimate(long fields) {
+        int conflicts = 0;
+        for (int row = 0; row < rows; row++) {
+            conflicts += rowConflicts(fields, row);
+        }
+        for (int column = 0; column < columns; column++) {
+            conflicts += columnConflicts(fields, column);
+        }
+        return manhattan.estimate(fields) + 2 * conflicts;
+    }
+
+    /**
+     * Updates the estimate after a single move. A horizontal move keeps the order of the tiles in their row and
+     * only changes the two columns involved, and a vertical move only changes the two rows involved.
+     */
+    @Override
+    public int update(long fields, int estimate, int value, int from, int to) {
+        long previous = PackedBoard.slideTile(fields, to, from);
+        int change = manhattan.delta(value, from, to);
+        if (from / columns == to / columns) {
+            change += 2 * (columnConflicts(fields, from % columns) + columnConflicts(fields, to % columns)
+                    - columnConflicts(previous, from % columns) - columnConflicts(previous, to % columns));
+        } else {
+            change += 2 * (rowConflicts(fields, from / columns) + rowConflicts(fields, to / columns)
+                    - rowConflicts(previous, from / columns) - rowConflicts(previous, to / columns));
+        }
+        return estimate + change;
+    }
+
+    /**
+     * Counts the tiles that have to leave a row to resolve its linear conflicts.
+     *
+     * @param fields The packed fields of the board.
+     * @param row    The row index.
+     * @return The number of tiles that have to leave the row.
+     */
+    private int rowConflicts(long fields, int row) {
+        int length = 0;
+        for (int column = 0; column < columns; column++) {
+            int value = PackedBoard.getFieldValue(fields, row * columns + column);
+            if (value != 0 && (value - 1) / columns == row) {
+                sequence[length++] = (value - 1) % columns;
+            }
+        }
+        return length - longestIncreasingRun(length);
+    }
+
+    /**
+     * Counts the tiles that have to leave a column to resolve its linear conflicts.
+     *
+     * @param fields The packed fields of the board.
+     * @param column The column index.
+     * @return The number of tiles that have to leave the column.
+     */
+    private int columnConflicts(long fields, int column) {
+        int length = 0;
+        for (int row = 0; row < rows; row++) {
+            int value = PackedBoard.getFieldValue(fields, row * columns + column);
+            if (value != 0 && (value - 1) % columns == column) {
+                sequence[length++] = (value - 1) / columns;
+            }
+        }
+        return length - longestIncreasingRun(length);
+    }
+
+    /**
+     * Finds the length of the longest increasing subsequence of the collected goal positions.
+     *
+     * @param length The number of collected goal positions.
+     * @return The length of the longest increasing subsequence.
+     */
+    private int longestIncreasingRun(int length) {
+        int longest = 0;
+        for (int i = 0; i < length; i++) {
+            runs[i] = 1;
+            for (int j = 0; j < i; j++) {
+                if (sequence[j] < sequence[i] && runs[j] + 1 > runs[i]) {
+                    runs[i] = runs[j] + 1;
+                }
+            }
+            longest = Math.max(longest, runs[i]);
+        }
+        return longest;
+    }
+}
@@ -0,0 +1,189 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+/**
+ * LongLongHashMap is an open-addressing hash map from packed board states to {@code long} values.
+ * <p>
+ * Keys and values live in primitive arrays with linear probing, and removals shift the following entries back,
+ * so the table never fills up with tombstones.
+ */
+final class LongLongHashMap {
+    /**
+     * The estimated bytes per entry: half-full tables right after a resize, plus the old tables while the resize
+     * copies them.
+     */
+    static final long BYTES_PER_ENTRY = 64;
+    private static final int DEFAULT_CAPACITY = 1 << 10;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int resizeThreshold;
+    private int size;
+    private boolean containsEmptyKey;
+    private long emptyKeyValue;
+
+    /**
+     * Constructs an empty LongLongHashMap with the default capacity.
+     */
+    LongLongHashMap() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Associates a value with a state, replacing any previous value.
+     *
+     * @param state The packed board state.
+     * @param value The value to store.
+     */
+    void put(long state, long value) {
+        if (state == EMPTY) {
+            if (!containsEmptyKey) {
+                containsEmptyKey = true;
+                size++;
+            }
+            emptyKeyValue = value;
+            return;
+        }
+        int slot = VisitedStateSet.mix(state) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == state) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = state;
+        values[slot] = value;
+        if (++size > resizeThreshold) {
+            grow();
+        }
+    }
+
+    /**
+     * Gets the value associated with a state.
+     *
+     * @param state        The packed board state.
+     * @param defaultValue The value to return if the state is not in the map.
+     * @return The stored value, or the default value if the state is not in the map.
+     */
+    long get(long state, long defaultValue) {
+        if (state == EMPTY) {
+            return containsEmptyKey ? emptyKeyValue : defaultValue;
+        }
+        int slot = VisitedStateSet.mix(state) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == state) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Checks if a state is in the map.
+     *
+     * @param state The packed board state.
+     * @return True if the state is in the map, false otherwise.
+     */
+    boolean containsKey(long state) {
+        if (state == EMPTY) {
+            return containsEmptyKey;
+        }
+        int slot = VisitedStateSet.mix(state) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == state) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Removes a state from the map.
+     *
+     * @param state The packed board state.
+     * @return True if the state was in the map, false otherwise.
+     */
+    boolean remove(long state) {
+        if (state == EMPTY) {
+            if (!containsEmptyKey) {
+                return false;
+            }
+            containsEmptyKey = false;
+            size--;
+            return true;
+        }
+        int slot = VisitedStateSet.mix(state) & mask;
+        while (keys[slot] != state) {
+            if (keys[slot] == EMPTY) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = VisitedStateSet.mix(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = EMPTY;
+        size--;
+        return true;
+    }
+
+    /**
+     * Gets the number of states in the map.
+     *
+     * @return The number of states.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Doubles the table and rehashes every entry.
+     *
+     * @throws IllegalStateException if the table cannot grow any further.
+     */
+    private void grow() {
+        if (keys.length >= MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("Hash map is full");
+        }
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(oldKeys.length << 1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long state = oldKeys[i];
+            if (state != EMPTY) {
+                int slot = VisitedStateSet.mix(state) & mask;
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = state;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Allocates empty tables with the specified capacity.
+     *
+     * @param capacity The number of slots, a power of two.
+     */
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+}
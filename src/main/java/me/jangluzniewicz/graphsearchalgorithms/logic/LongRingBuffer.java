@@ -0,0 +1,100 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import java.util.NoSuchElementException;
+
+/**
+ * LongRingBuffer is a growable ring buffer of primitive {@code long} values that can be used both as a
+ * FIFO queue and as a LIFO stack.
+ */
+final class LongRingBuffer {
+    /**
+     * The estimated bytes per value: a half-full array right after it grows, plus the old array while it is
+     * copied. The array never shrinks, so the estimate applies to the largest size the buffer has had.
+     */
+    static final long BYTES_PER_VALUE = 24;
+    private static final int DEFAULT_CAPACITY = 1 << 10;
+
+    private long[] elements;
+    private int head;
+    private int size;
+
+    /**
+     * Constructs an empty LongRingBuffer with the default capacity.
+     */
+    LongRingBuffer() {
+        elements = new long[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Appends a value at the tail of the buffer.
+     *
+     * @param value The value to append.
+     */
+    void addLast(long value) {
+        if (size == elements.length) {
+            grow();
+        }
+        elements[(head + size) & (elements.length - 1)] = value;
+        size++;
+    }
+
+    /**
+     * Removes the value at the head of the buffer.
+     *
+     * @return The removed value.
+     * @throws NoSuchElementException if the buffer is empty.
+     */
+    long pollFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        long value = elements[head];
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        return value;
+    }
+
+    /**
+     * Removes the value at the tail of the buffer.
+     *
+     * @return The removed value.
+     * @throws NoSuchElementException if the buffer is empty.
+     */
+    long pollLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        size--;
+        return elements[(head + size) & (elements.length - 1)];
+    }
+
+    /**
+     * Checks if the buffer is empty.
+     *
+     * @return True if the buffer holds no values, false otherwise.
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the number of values in the buffer.
+     *
+     * @return The number of values.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Doubles the capacity of the buffer and moves the values to the start of the new array.
+     */
+    private void grow() {
+        long[] grown = new long[elements.length << 1];
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, grown, 0, firstPart);
+        System.arraycopy(elements, 0, grown, firstPart, size - firstPart);
+        elements = grown;
+        head = 0;
+    }
+}
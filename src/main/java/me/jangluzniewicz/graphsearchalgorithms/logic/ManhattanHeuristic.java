@@ -0,0 +1,22 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+/**
+ * ManhattanHeuristic sums the row and column distances of every tile to its goal field.
+ */
+public class ManhattanHeuristic extends TileErrorHeuristic {
+
+    /**
+     * Constructs a ManhattanHeuristic for the specified board size.
+     *
+     * @param rows    The number of rows on the board.
+     * @param columns The number of columns on the board.
+     */
+    public ManhattanHeuristic(int rows, int columns) {
+        super(rows, columns);
+    }
+
+    @Override
+    int tileError(int rowDistance, int columnDistance) {
+        return rowDistance + columnDistance;
+    }
+}
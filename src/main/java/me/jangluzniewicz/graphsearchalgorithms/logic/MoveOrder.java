@@ -0,0 +1,33 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+/**
+ * MoveOrder compiles a move-order parameter such as "RDLU" into the sequence of directions a solver tries.
+ */
+final class MoveOrder {
+    private static final String DIRECTIONS = "UDLR";
+
+    private MoveOrder() {
+    }
+
+    /**
+     * Compiles a move-order parameter. Directions missing from the parameter are tried first, in "UDLR" order,
+     * which matches sorting the children of a node by their index in the parameter.
+     *
+     * @param parameter The move-order parameter.
+     * @return The directions in the order they should be tried.
+     */
+    static char[] compile(String parameter) {
+        StringBuilder order = new StringBuilder();
+        for (char direction : DIRECTIONS.toCharArray()) {
+            if (parameter.indexOf(direction) < 0) {
+                order.append(direction);
+            }
+        }
+        for (char direction : parameter.toCharArray()) {
+            if (DIRECTIONS.indexOf(direction) >= 0 && order.indexOf(String.valueOf(direction)) < 0) {
+                order.append(direction);
+            }
+        }
+        return order.toString().toCharArray();
+    }
+}
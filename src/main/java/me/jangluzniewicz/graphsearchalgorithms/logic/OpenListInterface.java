@@ -0,0 +1,58 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.Node;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Interface for A* open lists that hold at most one node per board state and return the node with the lowest
+ * total cost first.
+ */
+interface OpenListInterface {
+
+    /**
+     * Adds a node whose state is not queued yet.
+     *
+     * @param node The node to add.
+     */
+    void add(Node node);
+
+    /**
+     * Removes a node with the lowest total cost.
+     *
+     * @return The removed node.
+     * @throws NoSuchElementException if the open list is empty.
+     */
+    Node poll();
+
+    /**
+     * Gets the queued node with the specified state.
+     *
+     * @param state The packed board state.
+     * @return The queued node, or null if no node with this state is queued.
+     */
+    Node get(long state);
+
+    /**
+     * Replaces a queued node with a node for the same state and a lower or equal total cost.
+     *
+     * @param queued      The node currently queued.
+     * @param replacement The node that takes its place.
+     * @throws IllegalArgumentException if the node is not queued.
+     */
+    void decreaseKey(Node queued, Node replacement);
+
+    /**
+     * Checks if the open list is empty.
+     *
+     * @return True if no nodes are queued, false otherwise.
+     */
+    boolean isEmpty();
+
+    /**
+     * Gets the number of queued nodes.
+     *
+     * @return The number of nodes.
+     */
+    int size();
+}
@@ -0,0 +1,302 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.PackedBoard;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * PatternDatabase stores, for every placement of a set of pattern tiles, the minimum number of moves of those
+ * tiles needed to bring them to their goal fields. Moves of other tiles cost nothing, so the databases of
+ * disjoint patterns can be added together into an admissible heuristic.
+ * <p>
+ * A pattern-move count is never below the Manhattan distance of the pattern tiles and has the same parity,
+ * so each entry stores half of the excess over the Manhattan distance in four bits. Entries are indexed by
+ * the rank of the pattern tile positions as a partial permutation of the fields.
+ * <p>
+ * Databases are saved as a small header followed by the packed entries and are loaded with a read-only memory
+ * mapping, so every JVM on a host shares the same pages.
+ * <p>
+ * Instances reuse a scratch array for lookups and must not be shared between threads; {@link #copy()} gives
+ * another thread its own instance over the same entries.
+ */
+public class PatternDatabase {
+    private static final int MAGIC = 0x50444231;
+    private static final int MAX_EXCESS = 15;
+
+    private final int rows;
+    private final int columns;
+    private final int[] tiles;
+    private final int[] slots;
+    private final int[][] manhattan;
+    private final ByteBuffer entries;
+    private final int[] positions;
+
+    /**
+     * Constructs a PatternDatabase over packed entries.
+     *
+     * @param rows    The number of rows on the board.
+     * @param columns The number of columns on the board.
+     * @param tiles   The values of the pattern tiles.
+     * @param entries The packed entries, two per byte.
+     */
+    PatternDatabase(int rows, int columns, int[] tiles, ByteBuffer entries) {
+        int size = rows * columns;
+        this.rows = rows;
+        this.columns = columns;
+        this.tiles = tiles.clone();
+        this.slots = new int[size];
+        this.manhattan = new int[tiles.length][size];
+        this.entries = entries;
+        this.positions = new int[tiles.length];
+        Arrays.fill(slots, -1);
+        for (int slot = 0; slot < tiles.length; slot++) {
+            int value = tiles[slot];
+            if (value <= 0 || value >= size || slots[value] >= 0) {
+                throw new IllegalArgumentException("Invalid pattern");
+            }
+            slots[value] = slot;
+            for (int index = 0; index < size; index++) {
+                manhattan[slot][index] = Math.abs(index / columns - (value - 1) / columns)
+                        + Math.abs(index % columns - (value - 1) % columns);
+            }
+        }
+        if (entries.capacity() < (countEntries(size, tiles.length) + 1) / 2) {
+            throw new IllegalArgumentException("Pattern database is truncated");
+        }
+    }
+
+    /**
+     * Constructs a PatternDatabase that shares the tables and entries of another one.
+     *
+     * @param database The database to share.
+     */
+    private PatternDatabase(PatternDatabase database) {
+        this.rows = database.rows;
+        this.columns = database.columns;
+        this.tiles = database.tiles;
+        this.slots = database.slots;
+        this.manhattan = database.manhattan;
+        this.entries = database.entries.duplicate();
+        this.positions = new int[tiles.length];
+    }
+
+    /**
+     * Creates an instance over the same entries with its own scratch array, for use by another thread.
+     *
+     * @return The copy.
+     */
+    public PatternDatabase copy() {
+        return new PatternDatabase(this);
+    }
+
+    /**
+     * Builds the database of a pattern with a breadth-first search backwards from the solved board.
+     *
+     * @param rows    The number of rows on the board.
+     * @param columns The number of columns on the board.
+     * @param tiles   The values of the pattern tiles.
+     * @return The built database, held in memory.
+     */
+    public static PatternDatabase build(int rows, int columns, int... tiles) {
+        return new PatternDatabaseBuilder(rows, columns, tiles).build();
+    }
+
+    /**
+     * Loads a database saved with {@link #save(Path)} by mapping its entries into memory.
+     *
+     * @param path The database file.
+     * @return The loaded database.
+     * @throws IOException if the file cannot be read or is not a pattern database.
+     */
+    public static PatternDatabase load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(Integer.BYTES + 3);
+            readFully(channel, header, 0);
+            header.flip();
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Not a pattern database: " + path);
+            }
+            int rows = header.get();
+            int columns = header.get();
+            int[] tiles = new int[header.get()];
+            ByteBuffer tileBuffer = ByteBuffer.allocate(tiles.length);
+            readFully(channel, tileBuffer, header.capacity());
+            for (int i = 0; i < tiles.length; i++) {
+                tiles[i] = tileBuffer.get(i);
+            }
+            long offset = header.capacity() + tiles.length;
+            ByteBuffer entries = channel.map(FileChannel.MapMode.READ_ONLY, offset, channel.size() - offset);
+            return new PatternDatabase(rows, columns, tiles, entries);
+        }
+    }
+
+    /**
+     * Saves the database to a file. The file is written next to its destination and moved into place, so a
+     * concurrent {@link #load(Path)} never sees a partial file.
+     *
+     * @param path The database file.
+     * @throws IOException if the file cannot be written.
+     */
+    public void save(Path path) throws IOException {
+        Path temporary = Files.createTempFile(path.toAbsolutePath().getParent(), "pdb", ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(Integer.BYTES + 3 + tiles.length);
+            header.putInt(MAGIC).put((byte) rows).put((byte) columns).put((byte) tiles.length);
+            for (int value : tiles) {
+                header.put((byte) value);
+            }
+            header.flip();
+            writeFully(channel, header);
+            writeFully(channel, entries.duplicate().clear());
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Looks up the number of pattern-tile moves needed to solve the pattern tiles of a board.
+     *
+     * @param fields The packed fields of the board.
+     * @return A lower bound on the number of moves of the pattern tiles.
+     */
+    public int lookup(long fields) {
+        int size = rows * columns;
+        int distance = 0;
+        for (int index = 0; index < size; index++) {
+            int slot = slots[PackedBoard.getFieldValue(fields, index)];
+            if (slot >= 0) {
+                positions[slot] = index;
+                distance += manhattan[slot][index];
+            }
+        }
+        return distance + 2 * getExcess(rank(positions));
+    }
+
+    /**
+     * Gets the values of the pattern tiles.
+     *
+     * @return A copy of the pattern tile values.
+     */
+    public int[] getTiles() {
+        return tiles.clone();
+    }
+
+    /**
+     * Gets the number of rows on the board.
+     *
+     * @return The number of rows.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of columns on the board.
+     *
+     * @return The number of columns.
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Gets the Manhattan distance of the pattern tiles placed at the given positions.
+     *
+     * @param positions The index of the field holding each pattern tile.
+     * @return The sum of the Manhattan distances of the pattern tiles.
+     */
+    int manhattan(int[] positions) {
+        int distance = 0;
+        for (int slot = 0; slot < positions.length; slot++) {
+            distance += manhattan[slot][positions[slot]];
+        }
+        return distance;
+    }
+
+    /**
+     * Gets the stored excess of an entry.
+     *
+     * @param rank The rank of the pattern tile positions.
+     * @return Half of the pattern-move count above the Manhattan distance.
+     */
+    private int getExcess(long rank) {
+        int packed = entries.get((int) (rank >>> 1));
+        return (rank & 1) == 0 ? packed & 0xF : (packed >>> 4) & 0xF;
+    }
+
+    /**
+     * Stores the excess of an entry, capped at the largest value that fits in four bits.
+     *
+     * @param entries The packed entries.
+     * @param rank    The rank of the pattern tile positions.
+     * @param excess  Half of the pattern-move count above the Manhattan distance.
+     */
+    static void setExcess(byte[] entries, long rank, int excess) {
+        int value = Math.min(excess, MAX_EXCESS);
+        int index = (int) (rank >>> 1);
+        if ((rank & 1) == 0) {
+            entries[index] = (byte) ((entries[index] & 0xF0) | value);
+        } else {
+            entries[index] = (byte) ((entries[index] & 0x0F) | (value << 4));
+        }
+    }
+
+    /**
+     * Counts the placements of a pattern, which is the number of entries of its database.
+     *
+     * @param size  The number of fields on the board.
+     * @param count The number of pattern tiles.
+     * @return The number of partial permutations of {@code count} out of {@code size} fields.
+     */
+    static long countEntries(int size, int count) {
+        long entries = 1;
+        for (int i = 0; i < count; i++) {
+            entries *= size - i;
+        }
+        return entries;
+    }
+
+    /**
+     * Ranks pattern tile positions as a partial permutation of the fields.
+     *
+     * @param positions The index of the field holding each pattern tile.
+     * @return The rank of the placement.
+     */
+    long rank(int[] positions) {
+        int size = rows * columns;
+        long rank = 0;
+        int used = 0;
+        for (int slot = 0; slot < positions.length; slot++) {
+            int position = positions[slot];
+            rank = rank * (size - slot) + position - Integer.bitCount(used & ((1 << position) - 1));
+            used |= 1 << position;
+        }
+        return rank;
+    }
+
+    /**
+     * Reads bytes until the buffer is full.
+     */
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of pattern database");
+            }
+        }
+    }
+
+    /**
+     * Writes bytes until the buffer is drained.
+     */
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
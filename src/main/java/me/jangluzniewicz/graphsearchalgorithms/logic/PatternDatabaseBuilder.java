@@ -0,0 +1,182 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.Board;
+import me.jangluzniewicz.graphsearchalgorithms.model.PackedBoard;
+
+import java.nio.ByteBuffer;
+
+/**
+ * PatternDatabaseBuilder fills a pattern database with a retrograde breadth-first search from the solved board.
+ * <p>
+ * The search runs over abstract states made of the pattern tile positions and the empty field. Moving the empty
+ * field onto a pattern tile costs one move, any other move is free, so each layer is closed under free moves
+ * before the next layer starts. The first time a placement of the pattern tiles is reached, with any empty
+ * field, is its pattern-move count. Abstract states are marked in a bit set of
+ * {@code size * size! / (size - tiles)!} bits, so a 7-tile pattern of the 4x4 board needs about 115 MB for marks
+ * plus the layer queues.
+ */
+class PatternDatabaseBuilder {
+    private static final char[] MOVES = {'U', 'D', 'L', 'R'};
+    private final int rows;
+    private final int columns;
+    private final int size;
+    private final PatternDatabase database;
+    private final byte[] entries;
+    private final long[] marked;
+    private final long[] placed;
+    private final int[] positions;
+
+    /**
+     * Constructs a PatternDatabaseBuilder for a pattern.
+     *
+     * @param rows    The number of rows on the board.
+     * @param columns The number of columns on the board.
+     * @param tiles   The values of the pattern tiles.
+     * @throws IllegalArgumentException if the board is too large or the pattern is invalid.
+     */
+    PatternDatabaseBuilder(int rows, int columns, int[] tiles) {
+        if (rows < 1 || columns < 1 || rows * columns > Board.MAX_FIELDS) {
+            throw new IllegalArgumentException("Board must have between 1 and 16 fields");
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.size = rows * columns;
+        long count = PatternDatabase.countEntries(size, tiles.length);
+        if ((count + 1) / 2 > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Pattern is too large");
+        }
+        this.entries = new byte[(int) ((count + 1) / 2)];
+        this.database = new PatternDatabase(rows, columns, tiles, ByteBuffer.wrap(entries));
+        this.marked = new long[(int) ((count * size + 63) >>> 6)];
+        this.placed = new long[(int) ((count + 63) >>> 6)];
+        this.positions = new int[tiles.length];
+    }
+
+    /**
+     * Runs the search and returns the filled database.
+     *
+     * @return The pattern database.
+     */
+    PatternDatabase build() {
+        Board solved = BoardFactory.getSolvedBoard(rows, columns);
+        long fields = solved.getPackedState();
+        int[] tiles = database.getTiles();
+        for (int index = 0; index < size; index++) {
+            int value = PackedBoard.getFieldValue(fields, index);
+            for (int slot = 0; slot < tiles.length; slot++) {
+                if (tiles[slot] == value) {
+                    positions[slot] = index;
+                }
+            }
+        }
+        LongRingBuffer layer = new LongRingBuffer();
+        LongRingBuffer next = new LongRingBuffer();
+        long start = database.rank(positions) * size + solved.getEmptyIndex();
+        mark(start, 0);
+        layer.addLast(start);
+        int distance = 0;
+        while (!layer.isEmpty()) {
+            while (!layer.isEmpty()) {
+                expand(layer.pollFirst(), distance, layer, next);
+            }
+            distance++;
+            while (!next.isEmpty()) {
+                long state = next.pollFirst();
+                if (mark(state, distance)) {
+                    layer.addLast(state);
+                }
+            }
+        }
+        return database;
+    }
+
+    /**
+     * Expands an abstract state. Free moves stay in the current layer, moves of pattern tiles go to the next one.
+     *
+     * @param state    The abstract state.
+     * @param distance The pattern-move count of the state.
+     * @param layer    The queue of the current layer.
+     * @param next     The queue of the next layer.
+     */
+    private void expand(long state, int distance, LongRingBuffer layer, LongRingBuffer next) {
+        int empty = (int) (state % size);
+        unrank(state / size);
+        for (char move : MOVES) {
+            int target = PackedBoard.getMoveTarget(empty, move, rows, columns);
+            if (target < 0) {
+                continue;
+            }
+            int slot = 0;
+            while (slot < positions.length && positions[slot] != target) {
+                slot++;
+            }
+            if (slot == positions.length) {
+                long child = state - empty + target;
+                if (mark(child, distance)) {
+                    layer.addLast(child);
+                }
+            } else {
+                positions[slot] = empty;
+                long child = database.rank(positions) * size + target;
+                positions[slot] = target;
+                if (!isMarked(child)) {
+                    next.addLast(child);
+                }
+            }
+        }
+    }
+
+    /**
+     * Marks an abstract state and records its distance if it is the first state reached with its placement.
+     *
+     * @param state    The abstract state.
+     * @param distance The pattern-move count of the state.
+     * @return True if the state was not marked before, false otherwise.
+     */
+    private boolean mark(long state, int distance) {
+        if (isMarked(state)) {
+            return false;
+        }
+        marked[(int) (state >>> 6)] |= 1L << state;
+        long rank = state / size;
+        if ((placed[(int) (rank >>> 6)] & (1L << rank)) == 0) {
+            placed[(int) (rank >>> 6)] |= 1L << rank;
+            unrank(rank);
+            PatternDatabase.setExcess(entries, rank, (distance - database.manhattan(positions)) / 2);
+        }
+        return true;
+    }
+
+    /**
+     * Checks if an abstract state is marked.
+     *
+     * @param state The abstract state.
+     * @return True if the state is marked, false otherwise.
+     */
+    private boolean isMarked(long state) {
+        return (marked[(int) (state >>> 6)] & (1L << state)) != 0;
+    }
+
+    /**
+     * Decodes the rank of a placement into the positions of the pattern tiles.
+     *
+     * @param rank The rank of the placement.
+     */
+    private void unrank(long rank) {
+        for (int slot = positions.length - 1; slot >= 0; slot--) {
+            positions[slot] = (int) (rank % (size - slot));
+            rank /= size - slot;
+        }
+        int used = 0;
+        for (int slot = 0; slot < positions.length; slot++) {
+            int position = 0;
+            for (int free = positions[slot]; free > 0 || (used & (1 << position)) != 0; position++) {
+                if ((used & (1 << position)) == 0) {
+                    free--;
+                }
+            }
+            positions[slot] = position;
+            used |= 1 << position;
+        }
+    }
+}
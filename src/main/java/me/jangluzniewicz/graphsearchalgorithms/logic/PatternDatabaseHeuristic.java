@@ -0,0 +1,166 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.BoardSymmetry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PatternDatabaseHeuristic adds up the lookups of disjoint pattern databases. On square boards it also looks up
+ * the board reflected about the main diagonal and takes the larger sum, since both are lower bounds on the same
+ * solution length.
+ * <p>
+ * The databases reuse scratch arrays, so instances must not be shared between threads. {@link #getDefault} hands
+ * every caller its own instance over the shared entries.
+ */
+public class PatternDatabaseHeuristic implements HeuristicInterface {
+    /**
+     * The system property naming the directory the default databases are stored in.
+     */
+    public static final String DIRECTORY_PROPERTY = "graphsearchalgorithms.pdb.dir";
+    private static final int MAX_PATTERN_SIZE = 6;
+    private static final Map<String, PatternDatabaseHeuristic> DEFAULTS = new ConcurrentHashMap<>();
+
+    private final List<PatternDatabase> databases;
+    private final int side;
+
+    /**
+     * Constructs a PatternDatabaseHeuristic from databases of disjoint patterns.
+     *
+     * @param databases The pattern databases, all for the same board size.
+     * @throws IllegalArgumentException if there are no databases, the board sizes differ or the patterns overlap.
+     */
+    public PatternDatabaseHeuristic(List<PatternDatabase> databases) {
+        if (databases.isEmpty()) {
+            throw new IllegalArgumentException("No pattern databases");
+        }
+        int rows = databases.getFirst().getRows();
+        int columns = databases.getFirst().getColumns();
+        int used = 0;
+        for (PatternDatabase database : databases) {
+            if (database.getRows() != rows || database.getColumns() != columns) {
+                throw new IllegalArgumentException("Pattern databases differ in board size");
+            }
+            for (int value : database.getTiles()) {
+                if ((used & (1 << value)) != 0) {
+                    throw new IllegalArgumentException("Patterns are not disjoint");
+                }
+                used |= 1 << value;
+            }
+        }
+        this.databases = List.copyOf(databases);
+        this.side = BoardSymmetry.isSymmetric(rows, columns) ? rows : 0;
+    }
+
+    /**
+     * Loads the databases of the given patterns from a directory, building and saving the ones that are missing.
+     *
+     * @param directory The directory holding the database files.
+     * @param rows      The number of rows on the board.
+     * @param columns   The number of columns on the board.
+     * @param patterns  The values of the tiles of every pattern.
+     * @return The heuristic over the loaded databases.
+     * @throws IOException if a database cannot be read or written.
+     */
+    public static PatternDatabaseHeuristic load(Path directory, int rows, int columns, int[]... patterns)
+            throws IOException {
+        Files.createDirectories(directory);
+        List<PatternDatabase> databases = new ArrayList<>();
+        for (int[] pattern : patterns) {
+            StringBuilder name = new StringBuilder("pdb-" + rows + "x" + columns);
+            for (int value : pattern) {
+                name.append('-').append(value);
+            }
+            Path path = directory.resolve(name.append(".bin").toString());
+            if (!Files.exists(path)) {
+                PatternDatabase.build(rows, columns, pattern).save(path);
+            }
+            databases.add(PatternDatabase.load(path));
+        }
+        return new PatternDatabaseHeuristic(databases);
+    }
+
+    /**
+     * Gets the heuristic over the default patterns of a board size. The databases are stored in the directory
+     * named by {@link #DIRECTORY_PROPERTY}, or in the temporary directory, and are built on first use.
+     *
+     * @param rows    The number of rows on the board.
+     * @param columns The number of columns on the board.
+     * @return A heuristic over the shared databases of the board size, for use by one thread.
+     * @throws UncheckedIOException if a database cannot be read or written.
+     */
+    public static PatternDatabaseHeuristic getDefault(int rows, int columns) {
+        return DEFAULTS.computeIfAbsent(rows + "x" + columns, key -> {
+            Path directory = Path.of(System.getProperty(DIRECTORY_PROPERTY,
+                    Path.of(System.getProperty("java.io.tmpdir"), "graph-search-algorithms-pdb").toString()));
+            try {
+                return load(directory, rows, columns, getDefaultPatterns(rows, columns));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }).copy();
+    }
+
+    /**
+     * Creates an instance over the same databases with its own scratch arrays, for use by another thread.
+     *
+     * @return The copy.
+     */
+    public PatternDatabaseHeuristic copy() {
+        return new PatternDatabaseHeuristic(databases.stream().map(PatternDatabase::copy).toList());
+    }
+
+    /**
+     * Gets the default partition of the tiles into patterns. The 4x4 board uses the 6-6-3 partition, other
+     * boards split the tiles in row-major order into equal patterns of at most six tiles.
+     *
+     * @param rows    The number of rows on the board.
+     * @param columns The number of columns on the board.
+     * @return The values of the tiles of every pattern.
+     */
+    static int[][] getDefaultPatterns(int rows, int columns) {
+        if (rows == 4 && columns == 4) {
+            return new int[][]{{1, 5, 6, 9, 10, 13}, {7, 8, 11, 12, 14, 15}, {2, 3, 4}};
+        }
+        int tiles = rows * columns - 1;
+        int count = (tiles + MAX_PATTERN_SIZE - 1) / MAX_PATTERN_SIZE;
+        int[][] patterns = new int[count][];
+        int value = 1;
+        for (int i = 0; i < count; i++) {
+            patterns[i] = new int[(tiles - value + 1) / (count - i)];
+            for (int j = 0; j < patterns[i].length; j++) {
+                patterns[i][j] = value++;
+            }
+        }
+        return patterns;
+    }
+
+    @Override
+    public int estimate(long fields) {
+        int estimate = sum(fields);
+        if (side > 0) {
+            estimate = Math.max(estimate, sum(BoardSymmetry.transpose(fields, side)));
+        }
+        return estimate;
+    }
+
+    /**
+     * Adds up the lookups of all databases.
+     *
+     * @param fields The packed fields of the board.
+     * @return The additive estimate.
+     */
+    private int sum(long fields) {
+        int sum = 0;
+        for (PatternDatabase database : databases) {
+            sum += database.lookup(fields);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,121 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+/**
+ * SearchBudget tracks the limits of one running search. The node budget is compared on every check; the clock
+ * and the cancellation token are only read every {@value #CHECK_INTERVAL} expansions, which keeps the check cheap
+ * enough for the innermost loop of a solver.
+ * <p>
+ * The checks may be called from several threads. The first limit that is hit is kept as the outcome.
+ */
+final class SearchBudget {
+    static final int CHECK_INTERVAL = 1024;
+    private final long deadline;
+    private final boolean hasDeadline;
+    private final long maxExpansions;
+    private final long maxMemoryBytes;
+    private final CancellationToken cancellation;
+    private volatile SolverOutcome outcome;
+
+    /**
+     * Constructs a SearchBudget whose deadline is measured from now.
+     *
+     * @param limits The limits of the search.
+     */
+    SearchBudget(SolverLimits limits) {
+        hasDeadline = limits.timeLimit() != null;
+        deadline = hasDeadline ? System.nanoTime() + limits.timeLimit().toNanos() : 0;
+        maxExpansions = limits.maxExpansions();
+        maxMemoryBytes = limits.maxMemoryBytes();
+        cancellation = limits.cancellation();
+    }
+
+    /**
+     * Checks the limits before an expansion. Call it once per expansion with the running count.
+     *
+     * @param expansions The number of states expanded so far, not counting the next one.
+     * @return True if the search must stop, false otherwise.
+     */
+    boolean isExhausted(long expansions) {
+        if (expansions >= maxExpansions) {
+            stop(SolverOutcome.NODE_LIMIT);
+            return true;
+        }
+        return expansions % CHECK_INTERVAL == 0 && isInterrupted();
+    }
+
+    /**
+     * Checks the deadline and the cancellation token regardless of the number of expansions. Suits loops whose
+     * iterations are too coarse for the interval of {@link #isExhausted(long)}.
+     *
+     * @return True if the search must stop, false otherwise.
+     */
+    boolean isInterrupted() {
+        if (outcome != null) {
+            return true;
+        }
+        if (cancellation != null && cancellation.isCancelled()) {
+            stop(SolverOutcome.CANCELLED);
+            return true;
+        }
+        if (hasDeadline && System.nanoTime() - deadline >= 0) {
+            stop(SolverOutcome.TIME_LIMIT);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a node budget leaves room for a number of further expansions.
+     *
+     * @param expansions The number of states expanded so far, including the further ones.
+     * @return True if the further expansions exceed the budget, false otherwise.
+     */
+    boolean exceedsNodeBudget(long expansions) {
+        if (expansions > maxExpansions) {
+            stop(SolverOutcome.NODE_LIMIT);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks an estimated footprint against the memory budget. Unlike the other checks it does not stop the
+     * search, as a solver may free its states and continue in less memory; a solver that stops records it with
+     * {@link #stop(SolverOutcome)}.
+     *
+     * @param estimatedBytes The estimated footprint of the stored states, including room for their next growth.
+     * @return True if the footprint reaches the budget, false otherwise.
+     */
+    boolean exceedsMemory(long estimatedBytes) {
+        return estimatedBytes >= maxMemoryBytes;
+    }
+
+    /**
+     * Gets the memory budget.
+     *
+     * @return The largest estimated footprint allowed, in bytes.
+     */
+    long getMaxMemoryBytes() {
+        return maxMemoryBytes;
+    }
+
+    /**
+     * Gets the limit that stopped the search.
+     *
+     * @return The outcome, or null if no limit has been hit.
+     */
+    SolverOutcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Records the limit that stopped the search unless another one was recorded first.
+     *
+     * @param reason The limit.
+     */
+    synchronized void stop(SolverOutcome reason) {
+        if (outcome == null) {
+            outcome = reason;
+        }
+    }
+}
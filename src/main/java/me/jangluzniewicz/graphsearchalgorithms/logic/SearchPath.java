@@ -0,0 +1,152 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.MoveTable;
+import me.jangluzniewicz.graphsearchalgorithms.model.PackedBoard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * SearchPath is the current path of a depth-first search over a single mutable packed board. It generates the
+ * successors of the state at its end lazily: {@link #advance()} applies the next untried move and
+ * {@link #undo()} takes the last move back, so walking the search tree allocates nothing per state.
+ * <p>
+ * Moves are tried in a compiled move order, and the inverse of the move that reached a state is skipped. Every
+ * depth remembers how far through the move order it has got, so a search that backs up resumes with the next
+ * sibling.
+ */
+final class SearchPath {
+    private final MoveTable moveTable;
+    private final char[] moveOrder;
+    private long fields;
+    private int emptyIndex;
+    private int depth;
+    private char[] moves = new char[16];
+    private int[] emptyIndices = new int[16];
+    private int[] nextMoves = new int[17];
+
+    /**
+     * Constructs a SearchPath that starts at a state.
+     *
+     * @param fields     The packed fields of the start state.
+     * @param emptyIndex The index of the empty field of the start state.
+     * @param moveTable  The move table of the board size.
+     * @param moveOrder  The directions in the order they are tried, as compiled by {@link MoveOrder}.
+     */
+    SearchPath(long fields, int emptyIndex, MoveTable moveTable, char[] moveOrder) {
+        this.fields = fields;
+        this.emptyIndex = emptyIndex;
+        this.moveTable = moveTable;
+        this.moveOrder = moveOrder;
+    }
+
+    /**
+     * Applies the next untried move of the state at the end of the path and makes the new state the end.
+     *
+     * @return True if a move was applied, false if every move of the state has been tried.
+     */
+    boolean advance() {
+        char inverse = depth > 0 ? PackedBoard.getInverseMove(moves[depth - 1]) : 0;
+        for (int i = nextMoves[depth]; i < moveOrder.length; i++) {
+            char move = moveOrder[i];
+            int target = move != inverse ? moveTable.getTarget(emptyIndex, move) : -1;
+            if (target < 0) {
+                continue;
+            }
+            nextMoves[depth] = i + 1;
+            if (depth == moves.length) {
+                moves = Arrays.copyOf(moves, depth << 1);
+                emptyIndices = Arrays.copyOf(emptyIndices, depth << 1);
+                nextMoves = Arrays.copyOf(nextMoves, (depth << 1) + 1);
+            }
+            moves[depth] = move;
+            emptyIndices[depth] = emptyIndex;
+            fields = PackedBoard.slideTile(fields, target, emptyIndex);
+            emptyIndex = target;
+            nextMoves[++depth] = 0;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Takes back the last move of the path.
+     *
+     * @throws IllegalStateException if the path is empty.
+     */
+    void undo() {
+        if (depth == 0) {
+            throw new IllegalStateException("Path is empty");
+        }
+        int previous = emptyIndices[--depth];
+        fields = PackedBoard.slideTile(fields, previous, emptyIndex);
+        emptyIndex = previous;
+    }
+
+    /**
+     * Gets the packed fields of the state at the end of the path.
+     *
+     * @return The packed fields.
+     */
+    long getFields() {
+        return fields;
+    }
+
+    /**
+     * Gets the index of the empty field of the state at the end of the path.
+     *
+     * @return The index of the empty field.
+     */
+    int getEmptyIndex() {
+        return emptyIndex;
+    }
+
+    /**
+     * Gets the index the empty field had before the last move, which now holds the tile that moved.
+     *
+     * @return The previous index of the empty field.
+     * @throws IllegalStateException if the path is empty.
+     */
+    int getPreviousEmptyIndex() {
+        if (depth == 0) {
+            throw new IllegalStateException("Path is empty");
+        }
+        return emptyIndices[depth - 1];
+    }
+
+    /**
+     * Gets the last move of the path.
+     *
+     * @return The move that reached the state at the end of the path.
+     * @throws IllegalStateException if the path is empty.
+     */
+    char getLastMove() {
+        if (depth == 0) {
+            throw new IllegalStateException("Path is empty");
+        }
+        return moves[depth - 1];
+    }
+
+    /**
+     * Gets the number of moves on the path.
+     *
+     * @return The depth of the state at the end of the path.
+     */
+    int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Copies the moves of the path.
+     *
+     * @return The moves from the start state to the state at the end of the path.
+     */
+    List<Character> getMoves() {
+        List<Character> path = new ArrayList<>(depth);
+        for (int i = 0; i < depth; i++) {
+            path.add(moves[i]);
+        }
+        return path;
+    }
+}
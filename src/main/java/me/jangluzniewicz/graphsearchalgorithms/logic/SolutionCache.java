@@ -0,0 +1,412 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.DecimalFormat;
+import java.util.*;
+
+/**
+ * SolutionCache keeps the solutions of searches keyed by the start state, the board size, the algorithm and its
+ * parameter, so that a position solved before is answered without searching again.
+ * <p>
+ * The memory tier holds a bounded number of solutions and evicts the least recently used one when it is full.
+ * The optional disk tier keeps every solution in an append-only file: a small header followed by one
+ * length-prefixed record per solution, with the moves packed two bits each. Only the offsets of the records are
+ * held in memory, and a record that was cut short by a crash is dropped when the file is opened again.
+ * <p>
+ * All methods are synchronized, so a cache can be shared by solvers running on several threads.
+ */
+public class SolutionCache implements Closeable {
+    private static final int MAGIC = 0x534F4C31;
+    private static final String MOVES = "UDLR";
+
+    private final int capacity;
+    private final LinkedHashMap<Key, Entry> memory;
+    private final Map<Key, Long> diskIndex = new HashMap<>();
+    private final FileChannel file;
+    private long memoryHits;
+    private long diskHits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Key identifies a search.
+     *
+     * @param state     The packed start state.
+     * @param rows      The number of rows on the board.
+     * @param columns   The number of columns on the board.
+     * @param algorithm The name of the algorithm.
+     * @param parameter The parameter of the algorithm.
+     */
+    record Key(long state, int rows, int columns, String algorithm, String parameter) {
+    }
+
+    /**
+     * Entry is a cached search result.
+     *
+     * @param moves The moves from the start state, empty if the search found no solution.
+     * @param stats The statistics of the search.
+     */
+    record Entry(List<Character> moves, SolverStats stats) {
+    }
+
+    /**
+     * Hit is a successful lookup.
+     *
+     * @param entry    The cached result.
+     * @param fromDisk Whether the disk tier answered the lookup rather than the memory tier.
+     */
+    record Hit(Entry entry, boolean fromDisk) {
+    }
+
+    /**
+     * Record is a decoded record of the disk tier.
+     *
+     * @param key    The search.
+     * @param entry  The result.
+     * @param length The length of the record in bytes, including its length prefix.
+     */
+    private record Record(Key key, Entry entry, int length) {
+    }
+
+    /**
+     * Metrics counts the lookups of a cache.
+     *
+     * @param memoryHits The number of lookups answered by the memory tier.
+     * @param diskHits   The number of lookups answered by the disk tier.
+     * @param misses     The number of lookups answered by neither tier.
+     * @param evictions  The number of solutions evicted from the memory tier.
+     */
+    public record Metrics(long memoryHits, long diskHits, long misses, long evictions) {
+
+        /**
+         * Gets the share of lookups answered by either tier.
+         *
+         * @return The hit rate, from 0 to 1, or 0 if there were no lookups.
+         */
+        public double hitRate() {
+            long lookups = memoryHits + diskHits + misses;
+            return lookups == 0 ? 0 : (double) (memoryHits + diskHits) / lookups;
+        }
+
+        /**
+         * Returns a report of the metrics in the format of the solver statistics.
+         *
+         * @return A string containing the hit, miss and eviction counts and the hit rate.
+         */
+        @Override
+        public String toString() {
+            return "Memory hits: " + memoryHits + "\n" +
+                    "Disk hits: " + diskHits + "\n" +
+                    "Misses: " + misses + "\n" +
+                    "Evictions: " + evictions + "\n" +
+                    "Hit rate: " + new DecimalFormat("#.###").format(hitRate());
+        }
+    }
+
+    /**
+     * Constructs a SolutionCache with a memory tier only.
+     *
+     * @param capacity The largest number of solutions held in memory.
+     * @throws IllegalArgumentException if the capacity is not positive.
+     */
+    public SolutionCache(int capacity) {
+        this(capacity, (FileChannel) null);
+    }
+
+    /**
+     * Constructs a SolutionCache with a memory tier and a disk tier. The file is created if it does not exist,
+     * and the solutions it already holds are available at once.
+     *
+     * @param capacity The largest number of solutions held in memory.
+     * @param path     The file of the disk tier.
+     * @throws IOException if the file cannot be opened or is not a solution cache.
+     * @throws IllegalArgumentException if the capacity is not positive.
+     */
+    public SolutionCache(int capacity, Path path) throws IOException {
+        this(capacity, FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE));
+        try {
+            loadIndex(path);
+        } catch (IOException | RuntimeException e) {
+            file.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Constructs a SolutionCache over an open file.
+     *
+     * @param capacity The largest number of solutions held in memory.
+     * @param file     The file of the disk tier, or null for a memory tier only.
+     */
+    private SolutionCache(int capacity, FileChannel file) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.file = file;
+        this.memory = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > SolutionCache.this.capacity) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Looks up a search, first in memory and then on disk. A solution found on disk is moved into memory.
+     *
+     * @param key The search.
+     * @return The cached result and its tier, or null if the search is not cached.
+     * @throws UncheckedIOException if the disk tier cannot be read.
+     */
+    synchronized Hit get(Key key) {
+        Entry entry = memory.get(key);
+        if (entry != null) {
+            memoryHits++;
+            return new Hit(entry, false);
+        }
+        Long offset = diskIndex.get(key);
+        if (offset == null) {
+            misses++;
+            return null;
+        }
+        try {
+            entry = readRecord(offset).entry();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        diskHits++;
+        memory.put(key, entry);
+        return new Hit(entry, true);
+    }
+
+    /**
+     * Stores the result of a search in memory and, if it is not there yet, on disk.
+     *
+     * @param key   The search.
+     * @param entry The result.
+     * @throws UncheckedIOException if the disk tier cannot be written.
+     * @throws IllegalArgumentException if a move is not one of U, D, L and R.
+     */
+    synchronized void put(Key key, Entry entry) {
+        if (file != null && !diskIndex.containsKey(key)) {
+            try {
+                long offset = file.size();
+                ByteBuffer buffer = ByteBuffer.wrap(encode(key, entry));
+                while (buffer.hasRemaining()) {
+                    file.write(buffer, offset + buffer.position());
+                }
+                diskIndex.put(key, offset);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        memory.put(key, entry);
+    }
+
+    /**
+     * Gets the lookup counts since the cache was constructed.
+     *
+     * @return The metrics of the cache.
+     */
+    public synchronized Metrics getMetrics() {
+        return new Metrics(memoryHits, diskHits, misses, evictions);
+    }
+
+    /**
+     * Gets the number of solutions held in memory.
+     *
+     * @return The size of the memory tier.
+     */
+    public synchronized int getMemorySize() {
+        return memory.size();
+    }
+
+    /**
+     * Gets the number of solutions held on disk.
+     *
+     * @return The size of the disk tier, 0 if the cache has none.
+     */
+    public synchronized int getDiskSize() {
+        return diskIndex.size();
+    }
+
+    /**
+     * Closes the file of the disk tier. The memory tier stays usable.
+     *
+     * @throws IOException if the file cannot be closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (file != null) {
+            file.close();
+        }
+    }
+
+    /**
+     * Reads the offsets of the records of the disk tier, writing the header to an empty file and cutting off a
+     * record that was not written completely.
+     *
+     * @param path The file of the disk tier, used in error messages.
+     * @throws IOException if the file cannot be read or is not a solution cache.
+     */
+    private void loadIndex(Path path) throws IOException {
+        if (file.size() == 0) {
+            ByteBuffer header = ByteBuffer.allocate(Integer.BYTES).putInt(MAGIC).flip();
+            while (header.hasRemaining()) {
+                file.write(header, header.position());
+            }
+            return;
+        }
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+        if (file.read(header, 0) < Integer.BYTES || header.getInt(0) != MAGIC) {
+            throw new IOException("Not a solution cache: " + path);
+        }
+        long offset = Integer.BYTES;
+        long size = file.size();
+        while (offset < size) {
+            Record record;
+            try {
+                record = readRecord(offset);
+            } catch (EOFException e) {
+                file.truncate(offset);
+                break;
+            }
+            diskIndex.put(record.key(), offset);
+            offset += record.length();
+        }
+    }
+
+    /**
+     * Reads the record at an offset of the disk tier.
+     *
+     * @param offset The offset of the length prefix.
+     * @return The decoded record.
+     * @throws EOFException if the record extends past the end of the file.
+     * @throws IOException if the file cannot be read.
+     */
+    private Record readRecord(long offset) throws IOException {
+        ByteBuffer prefix = ByteBuffer.allocate(Integer.BYTES);
+        readFully(prefix, offset);
+        int length = prefix.getInt(0);
+        if (length < 0) {
+            throw new IOException("Corrupt solution cache record at offset " + offset);
+        }
+        ByteBuffer payload = ByteBuffer.allocate(length);
+        readFully(payload, offset + Integer.BYTES);
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload.array()))) {
+            Key key = new Key(in.readLong(), in.readUnsignedByte(), in.readUnsignedByte(), in.readUTF(),
+                    in.readUTF());
+            int moveCount = in.readUnsignedShort();
+            List<Character> moves = new ArrayList<>(moveCount);
+            int packed = 0;
+            for (int i = 0; i < moveCount; i++) {
+                if (i % 4 == 0) {
+                    packed = in.readUnsignedByte();
+                }
+                moves.add(MOVES.charAt((packed >>> (2 * (i % 4))) & 3));
+            }
+            SolverStats stats = new SolverStats(in.readInt(), in.readLong(), in.readLong(), in.readInt(),
+                    in.readLong(), in.readLong(), in.readLong(), in.readLong(),
+                    SolverOutcome.values()[in.readUnsignedByte()], readDetails(in));
+            return new Record(key, new Entry(Collections.unmodifiableList(moves), stats),
+                    Integer.BYTES + length);
+        } catch (EOFException | ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Corrupt solution cache record at offset " + offset, e);
+        }
+    }
+
+    /**
+     * Reads the additional figures of a record.
+     *
+     * @param in The record payload, positioned at the figures.
+     * @return The figures by label, in stored order.
+     * @throws IOException if the payload is too short.
+     */
+    private static Map<String, String> readDetails(DataInputStream in) throws IOException {
+        int count = in.readUnsignedShort();
+        Map<String, String> details = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            details.put(in.readUTF(), in.readUTF());
+        }
+        return details;
+    }
+
+    /**
+     * Encodes a search and its result as a record of the disk tier.
+     *
+     * @param key   The search.
+     * @param entry The result.
+     * @return The record, including its length prefix.
+     * @throws IOException if the record cannot be encoded.
+     * @throws IllegalArgumentException if a move is not one of U, D, L and R.
+     */
+    private static byte[] encode(Key key, Entry entry) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0);
+            out.writeLong(key.state());
+            out.writeByte(key.rows());
+            out.writeByte(key.columns());
+            out.writeUTF(key.algorithm());
+            out.writeUTF(key.parameter());
+            List<Character> moves = entry.moves();
+            out.writeShort(moves.size());
+            int packed = 0;
+            for (int i = 0; i < moves.size(); i++) {
+                int move = MOVES.indexOf(moves.get(i));
+                if (move < 0) {
+                    throw new IllegalArgumentException("Invalid move: " + moves.get(i));
+                }
+                packed |= move << (2 * (i % 4));
+                if (i % 4 == 3 || i == moves.size() - 1) {
+                    out.writeByte(packed);
+                    packed = 0;
+                }
+            }
+            SolverStats stats = entry.stats();
+            out.writeInt(stats.solutionLength());
+            out.writeLong(stats.visitedStates());
+            out.writeLong(stats.processedStates());
+            out.writeInt(stats.maxDepth());
+            out.writeLong(stats.elapsedNanos());
+            out.writeLong(stats.peakFrontierSize());
+            out.writeLong(stats.peakVisitedSize());
+            out.writeLong(stats.allocatedBytes());
+            out.writeByte(stats.outcome().ordinal());
+            out.writeShort(stats.details().size());
+            for (Map.Entry<String, String> detail : stats.details().entrySet()) {
+                out.writeUTF(detail.getKey());
+                out.writeUTF(detail.getValue());
+            }
+        }
+        byte[] record = bytes.toByteArray();
+        ByteBuffer.wrap(record).putInt(0, record.length - Integer.BYTES);
+        return record;
+    }
+
+    /**
+     * Fills a buffer from the disk tier.
+     *
+     * @param buffer   The buffer to fill.
+     * @param position The file position to read from.
+     * @throws EOFException if the file ends before the buffer is full.
+     * @throws IOException if the file cannot be read.
+     */
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (file.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Unexpected end of solution cache");
+            }
+        }
+    }
+}
@@ -1,146 +1,229 @@
 package me.jangluzniewicz.graphsearchalgorithms.logic;
 
-import me.jangluzniewicz.graphsearchalgorithms.model.Board;
 import me.jangluzniewicz.graphsearchalgorithms.model.Node;
+import me.jangluzniewicz.graphsearchalgorithms.model.PackedBoard;
 
-import java.text.DecimalFormat;
 import java.util.*;
 
 /**
  * A* Search algorithm implementation for solving board puzzles.
+ * The open list is indexed by board state, so a state is queued at most once and a cheaper route to it
+ * lowers its cost in place. Expanded states go to a closed list and are reopened only when a strictly
+ * shorter route to them is found.
+ * <p>
+ * The open list is a bucket queue by default. The binary heap it replaced can still be selected to compare the two.
+ * <p>
+ * When the estimated footprint of the open and closed lists reaches the memory budget, both lists are dropped
+ * and the search continues as IDA* from the lowest total cost left in the open list, which bounds the solution
+ * length from below. The result stays optimal, and memory no longer grows with the number of states.
  */
 public class SolverASTR implements BoardSolverInterface {
-    private Board solvedBoard;
+    /**
+     * Estimated bytes per queued node: the node and its board, its slot in the open list and its index entry.
+     */
+    private static final long BYTES_PER_QUEUED_NODE = 96 + 16 + LongLongHashMap.BYTES_PER_ENTRY;
+    /**
+     * The open list implementations the solver can use.
+     */
+    public enum OpenListType {
+        /**
+         * Buckets indexed by total cost and depth, with O(1) adds and polls.
+         */
+        BUCKET,
+        /**
+         * A binary heap ordered by total cost, with O(log n) adds and polls.
+         */
+        HEAP
+    }
+
+    private final OpenListType openListType;
+    private HeuristicInterface heuristic;
     private int solutionLength;
     private int visitedStates;
     private int processedStates;
     private int maxRecursionDepth;
     private long computationTime;
+    private long peakFrontierSize;
+    private long peakVisitedSize;
+    private long allocatedBytes;
+    private SolverOutcome outcome;
+    private int fallbackThreshold;
+
+    /**
+     * Constructs a SolverASTR with a bucket queue as its open list.
+     */
+    public SolverASTR() {
+        this(OpenListType.BUCKET);
+    }
+
+    /**
+     * Constructs a SolverASTR with the specified open list.
+     *
+     * @param openListType The open list implementation.
+     */
+    public SolverASTR(OpenListType openListType) {
+        this.openListType = openListType;
+    }
 
     /**
      * Solves the board puzzle using the A* search algorithm.
      *
      * @param root      The root node representing the initial state of the board.
      * @param parameter A parameter to customize the solving process ("MANH" for Manhattan distance,
-     *                  "HAMM" for Hamming distance).
+     *                  "HAMM" for Hamming distance, "LINC" for linear conflicts, "WALK" for walking distance,
+     *                  "PDB" for pattern databases).
+     * @param limits    The deadline, node budget, memory budget and cancellation token of the search.
      * @return A list of characters representing the sequence of moves to solve the puzzle.
      */
     @Override
-    public List<Character> solve(Node root, String parameter) {
-        solvedBoard = BoardFactory.getSolvedBoard(root.getState().getRows(), root.getState().getColumns());
-        PriorityQueue<Node> openList = new PriorityQueue<>(Node::compareTo);
+    public List<Character> solve(Node root, String parameter, SolverLimits limits) {
+        heuristic = HeuristicFactory.getHeuristic(parameter, root.getState().getRows(), root.getState().getColumns());
+        OpenListInterface openList = switch (openListType) {
+            case BUCKET -> new IndexedBucketQueue();
+            case HEAP -> new IndexedNodeHeap();
+        };
+        LongLongHashMap closedList = new LongLongHashMap();
+        visitedStates = 0;
+        processedStates = 0;
+        maxRecursionDepth = 0;
+        peakFrontierSize = 0;
+        peakVisitedSize = 0;
+        fallbackThreshold = -1;
         long startTime = System.nanoTime();
+        long startAllocation = AllocationCounter.currentThread();
+        SearchBudget budget = limits.start(BoardAnalysis.of(root.getState()));
+        root.setHeuristic(heuristic.estimate(root.getState().getPackedState()));
+        root.setTotalCost(root.getDepth() + root.getHeuristic());
         openList.add(root);
         visitedStates++;
         try {
             while (!openList.isEmpty()) {
+                if (budget.isExhausted(processedStates)) {
+                    break;
+                }
                 Node currentNode = openList.poll();
+                closedList.put(currentNode.getState().getPackedState(), currentNode.getDepth());
                 maxRecursionDepth = Math.max(maxRecursionDepth, currentNode.getDepth());
                 processedStates++;
                 if (currentNode.getState().isBoardSolved()) {
-                    computationTime = System.nanoTime() - startTime;
+                    finish(startTime, startAllocation);
                     solutionLength = currentNode.getPath().size();
+                    outcome = SolverOutcome.SOLVED;
                     return currentNode.getPath();
                 }
                 List<Node> children = currentNode.getChildren();
                 for (Node child : children) {
-                    if (!openList.contains(child)) {
-                        int error;
-                        if (parameter.equals("MANH")) {
-                            error = calculateManhattanError(child.getState());
-                        } else if (parameter.equals("HAMM")) {
-                            error = calculateHammingError(child.getState());
-                        } else {
-                            throw new IllegalArgumentException("Invalid parameter");
+                    long childState = child.getState().getPackedState();
+                    long closedDepth = closedList.get(childState, -1);
+                    if (closedDepth >= 0) {
+                        if (child.getDepth() >= closedDepth) {
+                            continue;
+                        }
+                        closedList.remove(childState);
+                    }
+                    Node queued = openList.get(childState);
+                    if (queued != null) {
+                        if (child.getDepth() < queued.getDepth()) {
+                            child.setHeuristic(queued.getHeuristic());
+                            child.setTotalCost(child.getDepth() + child.getHeuristic());
+                            openList.decreaseKey(queued, child);
                         }
-                        child.setTotalCost(child.getDepth() + error);
-                        openList.add(child);
-                        visitedStates++;
+                        continue;
                     }
+                    child.setHeuristic(updateError(currentNode, child));
+                    child.setTotalCost(child.getDepth() + child.getHeuristic());
+                    openList.add(child);
+                    visitedStates++;
+                }
+                peakFrontierSize = Math.max(peakFrontierSize, openList.size());
+                peakVisitedSize = Math.max(peakVisitedSize, openList.size() + closedList.size());
+                if (!openList.isEmpty() && budget.exceedsMemory(openList.size() * BYTES_PER_QUEUED_NODE
+                        + closedList.size() * LongLongHashMap.BYTES_PER_ENTRY)) {
+                    fallbackThreshold = openList.poll().getTotalCost() - root.getDepth();
+                    break;
                 }
             }
         } catch (OutOfMemoryError e) {
-            computationTime = System.nanoTime() - startTime;
+            finish(startTime, startAllocation);
             solutionLength = -1;
+            outcome = SolverOutcome.OUT_OF_MEMORY;
             return Collections.emptyList();
         }
-        computationTime = System.nanoTime() - startTime;
+        if (fallbackThreshold >= 0) {
+            openList = null;
+            closedList = null;
+            return continueWithIDAStar(root, parameter, budget, startTime, startAllocation);
+        }
+        finish(startTime, startAllocation);
         solutionLength = -1;
+        outcome = budget.getOutcome() != null ? budget.getOutcome() : SolverOutcome.EXHAUSTED;
         return Collections.emptyList();
     }
 
     /**
-     * Calculates the Manhattan error (sum of distances) between the current board state and the solved board state.
+     * Continues a search that reached the memory budget as IDA*, from the lowest total cost left in the open list.
      *
-     * @param currentBoard The current board state.
-     * @return The Manhattan error.
+     * @param root            The root node representing the initial state of the board.
+     * @param parameter       The heuristic.
+     * @param budget          The budget of the search.
+     * @param startTime       The value of System.nanoTime() when the search started.
+     * @param startAllocation The allocated bytes of the thread when the search started.
+     * @return A list of characters representing the sequence of moves to solve the puzzle.
      */
-    private int calculateManhattanError(Board currentBoard) {
-        int manhError = 0;
-        for (int i = 0; i < currentBoard.getRows(); i++) {
-            for (int j = 0; j < currentBoard.getColumns(); j++) {
-                int value = currentBoard.getFieldValue(i, j);
-                if (value != 0) {
-                    List<Integer> targetPosition = findPosition(solvedBoard, value);
-                    assert targetPosition != null;
-                    manhError += Math.abs(i - targetPosition.get(0)) + Math.abs(j - targetPosition.get(1));
-                }
-            }
-        }
-        return manhError;
+    private List<Character> continueWithIDAStar(Node root, String parameter, SearchBudget budget, long startTime,
+                                                long startAllocation) {
+        SolverIDAStar fallback = new SolverIDAStar();
+        List<Character> path = fallback.solve(root, parameter, budget, processedStates, fallbackThreshold);
+        SolverStats stats = fallback.getStats();
+        visitedStates += (int) stats.visitedStates();
+        processedStates += (int) stats.processedStates();
+        maxRecursionDepth = Math.max(maxRecursionDepth, root.getDepth() + stats.maxDepth());
+        finish(startTime, startAllocation);
+        solutionLength = stats.solutionLength();
+        outcome = stats.outcome();
+        return path;
     }
 
     /**
-     * Calculates the Hamming error (number of misplaced tiles) between the current board state and the solved board state.
+     * Records the figures that are taken when the search ends.
      *
-     * @param currentBoard The current board state.
-     * @return The Hamming error.
+     * @param startTime       The value of System.nanoTime() when the search started.
+     * @param startAllocation The allocated bytes of the thread when the search started.
      */
-    private int calculateHammingError(Board currentBoard) {
-        int hammError = 0;
-        for (int i = 0; i < currentBoard.getRows(); i++) {
-            for (int j = 0; j < currentBoard.getColumns(); j++) {
-                if (currentBoard.getFieldValue(i, j) != 0) {
-                    if (currentBoard.getFieldValue(i, j) != solvedBoard.getFieldValue(i, j)) {
-                        hammError++;
-                    }
-                }
-            }
-        }
-        return hammError;
+    private void finish(long startTime, long startAllocation) {
+        computationTime = System.nanoTime() - startTime;
+        allocatedBytes = AllocationCounter.since(startAllocation, AllocationCounter.currentThread());
     }
 
     /**
-     * Finds the position (row and column indices) of a specific value on the board.
+     * Derives the error of a child node from the error of its parent. A move slides exactly one tile from the
+     * field the empty field moves to into the field the empty field leaves.
      *
-     * @param board The board to search.
-     * @param value The value to find.
-     * @return A list containing the row and column indices of the value, or null if not found.
+     * @param parent The node that was expanded.
+     * @param child  The child node generated by a single move.
+     * @return The error of the child node.
      */
-    private List<Integer> findPosition(Board board, int value) {
-        for (int i = 0; i < board.getRows(); i++) {
-            for (int j = 0; j < board.getColumns(); j++) {
-                if (board.getFieldValue(i, j) == value) {
-                    return new ArrayList<>(List.of(i, j));
-                }
-            }
-        }
-        return null;
+    private int updateError(Node parent, Node child) {
+        int from = child.getState().getEmptyIndex();
+        int to = parent.getState().getEmptyIndex();
+        long fields = child.getState().getPackedState();
+        return heuristic.update(fields, parent.getHeuristic(), PackedBoard.getFieldValue(fields, to), from, to);
     }
 
     /**
      * Retrieves statistics about the solving process.
      *
-     * @return A string containing statistics such as solution length, visited states, processed states,
-     *         max recursion depth, and computation time.
+     * @return The solution length, visited states, processed states, max recursion depth, computation time,
+     *         peak open list and open plus closed list sizes, allocated bytes, outcome and, if the memory budget
+     *         was reached, the threshold the search continued from as IDA*.
      */
     @Override
-    public String getStats() {
-        DecimalFormat decimalFormat = new DecimalFormat("#.#####");
-        return "Solution length: " + solutionLength + "\n" +
-                "Visited states: " + visitedStates + "\n" +
-                "Processed states: " + processedStates + "\n" +
-                "Max recursion depth: " + maxRecursionDepth + "\n" +
-                "Computation time (ms): " + decimalFormat.format((double)computationTime / 1_000_000_000.0);
+    public SolverStats getStats() {
+        Map<String, String> details = new LinkedHashMap<>();
+        if (fallbackThreshold >= 0) {
+            details.put("Memory fallback", "IDA* from threshold " + fallbackThreshold);
+        }
+        return new SolverStats(solutionLength, visitedStates, processedStates, maxRecursionDepth, computationTime,
+                peakFrontierSize, peakVisitedSize, allocatedBytes, outcome, details);
     }
 }
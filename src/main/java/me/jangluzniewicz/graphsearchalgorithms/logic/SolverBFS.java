@@ -1,13 +1,17 @@
 package me.jangluzniewicz.graphsearchalgorithms.logic;
 
 import me.jangluzniewicz.graphsearchalgorithms.model.Board;
+import me.jangluzniewicz.graphsearchalgorithms.model.MoveTable;
 import me.jangluzniewicz.graphsearchalgorithms.model.Node;
+import me.jangluzniewicz.graphsearchalgorithms.model.PackedBoard;
 
-import java.text.DecimalFormat;
 import java.util.*;
 
 /**
  * SolverBFS implements the Breadth-First Search (BFS) algorithm to solve board puzzles.
+ * The queue and the visited set hold packed board states rather than nodes, and the solution path
+ * is rebuilt from the moves stored in the visited set. On square boards the visited set stores a state and its
+ * reflection about the main diagonal once, since both are equally far from the solved board.
  */
 public class SolverBFS implements BoardSolverInterface {
     private int solutionLength;
@@ -15,79 +19,120 @@ public class SolverBFS implements BoardSolverInterface {
     private int processedStates;
     private int maxRecursionDepth;
     private long computationTime;
+    private long peakFrontierSize;
+    private long peakVisitedSize;
+    private long allocatedBytes;
+    private SolverOutcome outcome;
 
     /**
      * Solves the board puzzle using the Breadth-First Search (BFS) algorithm.
      *
      * @param root      The root node representing the initial state of the board.
-     * @param parameter A parameter that could influence the solving process.
+     * @param parameter The order in which moves are tried (e.g. "RDLU").
+     * @param limits    The deadline, node budget, memory budget and cancellation token of the search.
      * @return A list of characters representing the sequence of moves to solve the puzzle.
      */
     @Override
-    public List<Character> solve(Node root, String parameter) {
-        Queue<Node> queue = new LinkedList<>();
-        Set<Board> visited = new HashSet<>();
+    public List<Character> solve(Node root, String parameter, SolverLimits limits) {
+        Board rootBoard = root.getState();
+        int rows = rootBoard.getRows();
+        int columns = rootBoard.getColumns();
+        if (rootBoard.getEmptyIndex() < 0) {
+            throw new IllegalArgumentException("No empty field");
+        }
+        long solvedState = Board.getSolvedState(rows, columns);
+        MoveTable moveTable = MoveTable.of(rows, columns);
+        char[] moveOrder = MoveOrder.compile(parameter);
+        LongRingBuffer queue = new LongRingBuffer();
+        VisitedStateSet visited = VisitedStateSet.canonical(rows, columns);
+        visitedStates = 0;
+        processedStates = 0;
+        maxRecursionDepth = 0;
+        peakFrontierSize = 0;
+        peakVisitedSize = 0;
         long startTime = System.nanoTime();
-        queue.add(root);
-        visited.add(root.getState());
+        long startAllocation = AllocationCounter.currentThread();
+        SearchBudget budget = limits.start(BoardAnalysis.of(rootBoard));
+        queue.addLast(rootBoard.getPackedState());
+        visited.add(rootBoard.getPackedState(), VisitedStateSet.ROOT_MOVE);
         visitedStates++;
+        int depth = root.getDepth();
+        int remainingInLayer = 1;
+        int nextLayerSize = 0;
         try {
             while (!queue.isEmpty()) {
-                Node currentNode = queue.poll();
-                Board currentBoard = currentNode.getState();
-                maxRecursionDepth = Math.max(maxRecursionDepth, currentNode.getDepth());
+                if (budget.isExhausted(processedStates)) {
+                    break;
+                }
+                long currentState = queue.pollFirst();
+                maxRecursionDepth = Math.max(maxRecursionDepth, depth);
                 processedStates++;
-                if (currentBoard.isBoardSolved()) {
-                    computationTime = System.nanoTime() - startTime;
-                    solutionLength = currentNode.getPath().size();
-                    return currentNode.getPath();
+                if (currentState == solvedState) {
+                    List<Character> path = new ArrayList<>(root.getPath());
+                    path.addAll(visited.getPath(currentState, rows, columns));
+                    finish(visited, startTime, startAllocation);
+                    solutionLength = path.size();
+                    outcome = SolverOutcome.SOLVED;
+                    return path;
                 }
-                List<Node> children = currentNode.getChildren();
-                sortChildren(children, parameter);
-                for (Node child : children) {
-                    if (!visited.contains(child.getState())) {
-                        visited.add(child.getState());
-                        visitedStates++;
-                        queue.add(child);
+                int emptyIndex = PackedBoard.findEmptyIndex(currentState, rows * columns);
+                for (char move : moveOrder) {
+                    int target = moveTable.getTarget(emptyIndex, move);
+                    if (target >= 0) {
+                        long childState = PackedBoard.slideTile(currentState, target, emptyIndex);
+                        if (visited.add(childState, move)) {
+                            visitedStates++;
+                            queue.addLast(childState);
+                            nextLayerSize++;
+                        }
                     }
                 }
+                peakFrontierSize = Math.max(peakFrontierSize, queue.size());
+                if (budget.exceedsMemory(visited.size() * VisitedStateSet.BYTES_PER_STATE
+                        + peakFrontierSize * LongRingBuffer.BYTES_PER_VALUE)) {
+                    budget.stop(SolverOutcome.MEMORY_LIMIT);
+                    break;
+                }
+                if (--remainingInLayer == 0) {
+                    depth++;
+                    remainingInLayer = nextLayerSize;
+                    nextLayerSize = 0;
+                }
             }
         } catch (OutOfMemoryError e) {
-            computationTime = System.nanoTime() - startTime;
+            finish(visited, startTime, startAllocation);
             solutionLength = -1;
+            outcome = SolverOutcome.OUT_OF_MEMORY;
             return Collections.emptyList();
         }
-        computationTime = System.nanoTime() - startTime;
+        finish(visited, startTime, startAllocation);
         solutionLength = -1;
+        outcome = budget.getOutcome() != null ? budget.getOutcome() : SolverOutcome.EXHAUSTED;
         return Collections.emptyList();
     }
 
     /**
-     * Sorts the list of child nodes based on a specific order.
+     * Records the figures that are taken when the search ends.
      *
-     * @param children   The list of child nodes to be sorted.
-     * @param moveOrder  The order in which to sort the child nodes.
+     * @param visited         The visited set of the search.
+     * @param startTime       The value of System.nanoTime() when the search started.
+     * @param startAllocation The allocated bytes of the thread when the search started.
      */
-    private void sortChildren(List<Node> children, String moveOrder) {
-        children.sort((node1, node2) -> {
-            int index1 = moveOrder.indexOf(node1.getLastMove());
-            int index2 = moveOrder.indexOf(node2.getLastMove());
-            return Integer.compare(index1, index2);
-        });
+    private void finish(VisitedStateSet visited, long startTime, long startAllocation) {
+        computationTime = System.nanoTime() - startTime;
+        allocatedBytes = AllocationCounter.since(startAllocation, AllocationCounter.currentThread());
+        peakVisitedSize = visited.size();
     }
 
     /**
      * Retrieves statistics about the solving process.
      *
-     * @return A string containing statistics such as solution length, visited states, processed states,
-     *         max recursion depth, and computation time.
+     * @return The solution length, visited states, processed states, max recursion depth, computation time,
+     *         peak queue and visited-set sizes, allocated bytes and outcome of the last search.
      */
-    public String getStats() {
-        DecimalFormat decimalFormat = new DecimalFormat("#.###");
-        return "Solution length: " + solutionLength + "\n" +
-                "Visited states: " + visitedStates + "\n" +
-                "Processed states: " + processedStates + "\n" +
-                "Max recursion depth: " + maxRecursionDepth + "\n" +
-                "Computation time (ms): " + decimalFormat.format((double) computationTime / 1_000_000_000.0);
+    @Override
+    public SolverStats getStats() {
+        return new SolverStats(solutionLength, visitedStates, processedStates, maxRecursionDepth, computationTime,
+                peakFrontierSize, peakVisitedSize, allocatedBytes, outcome);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,178 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.Board;
+import me.jangluzniewicz.graphsearchalgorithms.model.MoveTable;
+import me.jangluzniewicz.graphsearchalgorithms.model.Node;
+import me.jangluzniewicz.graphsearchalgorithms.model.PackedBoard;
+
+import java.util.*;
+
+/**
+ * SolverBidirectionalBFS runs two breadth-first searches, forward from the initial board and backward from the
+ * solved board, and stops when they meet. Each step expands a whole layer of the smaller frontier, so the first
+ * meeting state found lies on a shortest path. Both searches keep packed states and the moves that reached them,
+ * and the solution is stitched from the forward path to the meeting state and the reversed backward path.
+ */
+public class SolverBidirectionalBFS implements BoardSolverInterface {
+    private int rows;
+    private int columns;
+    private MoveTable moveTable;
+    private char[] moveOrder;
+    private VisitedStateSet forwardVisited;
+    private VisitedStateSet backwardVisited;
+    private SearchBudget budget;
+    private int solutionLength;
+    private int visitedStates;
+    private int processedStates;
+    private int maxRecursionDepth;
+    private long computationTime;
+    private long peakFrontierSize;
+    private long peakVisitedSize;
+    private long allocatedBytes;
+    private SolverOutcome outcome;
+
+    /**
+     * Solves the board puzzle using a bidirectional Breadth-First Search.
+     *
+     * @param root      The root node representing the initial state of the board.
+     * @param parameter The order in which moves are tried (e.g. "RDLU").
+     * @param limits    The deadline, node budget, memory budget and cancellation token of the search.
+     * @return A list of characters representing the sequence of moves to solve the puzzle.
+     */
+    @Override
+    public List<Character> solve(Node root, String parameter, SolverLimits limits) {
+        Board rootBoard = root.getState();
+        rows = rootBoard.getRows();
+        columns = rootBoard.getColumns();
+        moveTable = MoveTable.of(rows, columns);
+        if (rootBoard.getEmptyIndex() < 0) {
+            throw new IllegalArgumentException("No empty field");
+        }
+        moveOrder = MoveOrder.compile(parameter);
+        forwardVisited = new VisitedStateSet();
+        backwardVisited = new VisitedStateSet();
+        LongRingBuffer forwardQueue = new LongRingBuffer();
+        LongRingBuffer backwardQueue = new LongRingBuffer();
+        visitedStates = 0;
+        processedStates = 0;
+        maxRecursionDepth = 0;
+        peakFrontierSize = 0;
+        peakVisitedSize = 0;
+        long startTime = System.nanoTime();
+        long startAllocation = AllocationCounter.currentThread();
+        budget = limits.start(BoardAnalysis.of(rootBoard));
+        long startState = rootBoard.getPackedState();
+        long solvedState = Board.getSolvedState(rows, columns);
+        forwardQueue.addLast(startState);
+        forwardVisited.add(startState, VisitedStateSet.ROOT_MOVE);
+        backwardQueue.addLast(solvedState);
+        backwardVisited.add(solvedState, VisitedStateSet.ROOT_MOVE);
+        int forwardDepth = 0;
+        int backwardDepth = 0;
+        List<Character> meeting = startState == solvedState ? Collections.emptyList() : null;
+        try {
+            while (meeting == null && budget.getOutcome() == null && !forwardQueue.isEmpty()
+                    && !backwardQueue.isEmpty()) {
+                if (forwardQueue.size() <= backwardQueue.size()) {
+                    meeting = expandLayer(forwardQueue, true);
+                    forwardDepth++;
+                } else {
+                    meeting = expandLayer(backwardQueue, false);
+                    backwardDepth++;
+                }
+                maxRecursionDepth = Math.max(maxRecursionDepth, root.getDepth() + forwardDepth + backwardDepth);
+                peakFrontierSize = Math.max(peakFrontierSize, forwardQueue.size() + backwardQueue.size());
+            }
+            outcome = meeting != null ? SolverOutcome.SOLVED
+                    : budget.getOutcome() != null ? budget.getOutcome() : SolverOutcome.EXHAUSTED;
+        } catch (OutOfMemoryError e) {
+            meeting = null;
+            outcome = SolverOutcome.OUT_OF_MEMORY;
+        }
+        visitedStates += forwardVisited.size() + backwardVisited.size();
+        peakVisitedSize = Math.max(peakVisitedSize, forwardVisited.size() + backwardVisited.size());
+        forwardVisited = null;
+        backwardVisited = null;
+        computationTime = System.nanoTime() - startTime;
+        allocatedBytes = AllocationCounter.since(startAllocation, AllocationCounter.currentThread());
+        if (meeting == null) {
+            solutionLength = -1;
+            return Collections.emptyList();
+        }
+        List<Character> path = new ArrayList<>(root.getPath());
+        path.addAll(meeting);
+        solutionLength = path.size();
+        return path;
+    }
+
+    /**
+     * Expands every state of the current layer of one frontier and checks the children against the other search.
+     *
+     * @param frontier The queue of the frontier to expand.
+     * @param forward  True to expand the forward search, false to expand the backward search.
+     * @return The moves from the initial board to the solved board if the searches met, null if they did not
+     *         meet in this layer or a limit was hit.
+     */
+    private List<Character> expandLayer(LongRingBuffer frontier, boolean forward) {
+        VisitedStateSet own = forward ? forwardVisited : backwardVisited;
+        VisitedStateSet other = forward ? backwardVisited : forwardVisited;
+        for (int remaining = frontier.size(); remaining > 0; remaining--) {
+            if (budget.isExhausted(processedStates)) {
+                return null;
+            }
+            if (budget.exceedsMemory((own.size() + other.size()) * VisitedStateSet.BYTES_PER_STATE
+                    + Math.max(peakFrontierSize, frontier.size()) * LongRingBuffer.BYTES_PER_VALUE)) {
+                budget.stop(SolverOutcome.MEMORY_LIMIT);
+                return null;
+            }
+            long state = frontier.pollFirst();
+            processedStates++;
+            int emptyIndex = PackedBoard.findEmptyIndex(state, rows * columns);
+            for (char move : moveOrder) {
+                int target = moveTable.getTarget(emptyIndex, move);
+                if (target < 0) {
+                    continue;
+                }
+                long child = PackedBoard.slideTile(state, target, emptyIndex);
+                if (other.contains(child)) {
+                    return forward ? stitch(state, move, child) : stitch(child, PackedBoard.getInverseMove(move), state);
+                }
+                if (own.add(child, move)) {
+                    frontier.addLast(child);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Joins the forward path to a state, the move to the next state and the backward path from that state.
+     *
+     * @param forwardState  The state reached by the forward search.
+     * @param move          The move from the forward state to the backward state.
+     * @param backwardState The state reached by the backward search.
+     * @return The moves from the initial board to the solved board.
+     */
+    private List<Character> stitch(long forwardState, char move, long backwardState) {
+        List<Character> path = forwardVisited.getPath(forwardState, rows, columns);
+        path.add(move);
+        List<Character> backwardPath = backwardVisited.getPath(backwardState, rows, columns);
+        for (int i = backwardPath.size() - 1; i >= 0; i--) {
+            path.add(PackedBoard.getInverseMove(backwardPath.get(i)));
+        }
+        return path;
+    }
+
+    /**
+     * Retrieves statistics about the solving process.
+     *
+     * @return The solution length, visited states, processed states, max recursion depth, computation time,
+     *         peak sizes of both queues and both visited sets together, allocated bytes and outcome of the last
+     *         search.
+     */
+    @Override
+    public SolverStats getStats() {
+        return new SolverStats(solutionLength, visitedStates, processedStates, maxRecursionDepth, computationTime,
+                peakFrontierSize, peakVisitedSize, allocatedBytes, outcome);
+    }
+}
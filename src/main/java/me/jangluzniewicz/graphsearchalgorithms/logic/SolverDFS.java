@@ -1,98 +1,194 @@
 package me.jangluzniewicz.graphsearchalgorithms.logic;
 
 import me.jangluzniewicz.graphsearchalgorithms.model.Board;
+import me.jangluzniewicz.graphsearchalgorithms.model.MoveTable;
 import me.jangluzniewicz.graphsearchalgorithms.model.Node;
 
-import java.text.DecimalFormat;
 import java.util.*;
 
 /**
  * SolverDFS implements the Depth-First Search (DFS) algorithm with depth limit to solve board puzzles.
+ * The search walks a single packed board with do/undo moves, so the current path is the only stack and no object
+ * is created per state. A bounded {@link TranspositionTable} remembers the shallowest depth each state was reached
+ * at and prunes it only when it comes back at the same or a greater depth, so a state first reached along a long
+ * path is searched again when a shorter path reaches it, and every solution within the depth limit is found.
+ * <p>
+ * The table has a fixed number of slots, which the memory budget can lower further. A board whose lower bound is
+ * above the depth limit is given up without a search. The solution is not necessarily the shortest;
+ * {@link SolverIDDFS} finds shortest solutions.
  */
 public class SolverDFS implements BoardSolverInterface {
-    private static final int MAX_DEPTH = 30;
+    private static final int DEFAULT_MAX_DEPTH = 30;
+    private static final int DEFAULT_TABLE_CAPACITY = 1 << 20;
+    private final int maxDepth;
+    private final int tableCapacity;
     private int solutionLength;
     private int visitedStates;
     private int processedStates;
     private int maxRecursionDepth;
     private long computationTime;
+    private long peakFrontierSize;
+    private long peakVisitedSize;
+    private long allocatedBytes;
+    private SolverOutcome outcome;
+    private TranspositionTable table;
+
+    /**
+     * Constructs a SolverDFS with the default depth limit of 30 moves.
+     */
+    public SolverDFS() {
+        this(DEFAULT_MAX_DEPTH);
+    }
+
+    /**
+     * Constructs a SolverDFS with a depth limit and a transposition table of 2^20 slots.
+     *
+     * @param maxDepth The greatest depth the search descends to, at most 255.
+     * @throws IllegalArgumentException if the depth limit is negative or above 255.
+     */
+    public SolverDFS(int maxDepth) {
+        this(maxDepth, DEFAULT_TABLE_CAPACITY);
+    }
+
+    /**
+     * Constructs a SolverDFS with a depth limit and a transposition table size.
+     *
+     * @param maxDepth      The greatest depth the search descends to, at most 255.
+     * @param tableCapacity The number of slots of the transposition table, rounded down to a power of two.
+     * @throws IllegalArgumentException if the depth limit is negative or above 255, or the table has fewer than
+     *                                  1024 slots.
+     */
+    public SolverDFS(int maxDepth, int tableCapacity) {
+        if (maxDepth < 0 || maxDepth > TranspositionTable.MAX_DEPTH) {
+            throw new IllegalArgumentException("Depth limit must be between 0 and 255");
+        }
+        if (tableCapacity < TranspositionTable.MIN_CAPACITY) {
+            throw new IllegalArgumentException("Transposition table must have at least 1024 slots");
+        }
+        this.maxDepth = maxDepth;
+        this.tableCapacity = tableCapacity;
+    }
 
     /**
      * Solves the board puzzle using the Depth-First Search (DFS) algorithm with a depth limit.
      *
      * @param root      The root node representing the initial state of the board.
-     * @param parameter A parameter that could influence the solving process.
+     * @param parameter The order in which moves are tried (e.g. "RDLU").
+     * @param limits    The deadline, node budget, memory budget and cancellation token of the search. The memory
+     *                  budget caps the size of the transposition table.
      * @return A list of characters representing the sequence of moves to solve the puzzle.
      */
     @Override
-    public List<Character> solve(Node root, String parameter) {
-        Deque<Node> stack = new ArrayDeque<>();
-        Set<Board> visited = new HashSet<>();
+    public List<Character> solve(Node root, String parameter, SolverLimits limits) {
+        Board rootBoard = root.getState();
+        int rows = rootBoard.getRows();
+        int columns = rootBoard.getColumns();
+        if (rootBoard.getEmptyIndex() < 0) {
+            throw new IllegalArgumentException("No empty field");
+        }
+        long solvedState = Board.getSolvedState(rows, columns);
+        SearchPath path = new SearchPath(rootBoard.getPackedState(), rootBoard.getEmptyIndex(),
+                MoveTable.of(rows, columns), MoveOrder.compile(parameter));
+        visitedStates = 0;
+        processedStates = 0;
+        maxRecursionDepth = root.getDepth();
+        peakFrontierSize = 0;
+        peakVisitedSize = 0;
         long startTime = System.nanoTime();
-        stack.push(root);
-        visited.add(root.getState());
+        long startAllocation = AllocationCounter.currentThread();
+        BoardAnalysis analysis = BoardAnalysis.of(rootBoard);
+        SearchBudget budget = limits.start(analysis);
+        int capacity = TranspositionTable.capacityWithin(tableCapacity, budget.getMaxMemoryBytes());
+        if (capacity == 0) {
+            budget.stop(SolverOutcome.MEMORY_LIMIT);
+        }
+        if (budget.getOutcome() != null || analysis.lowerBound() > maxDepth - root.getDepth()) {
+            table = null;
+            finish(startTime, startAllocation);
+            solutionLength = -1;
+            outcome = budget.getOutcome() != null ? budget.getOutcome() : SolverOutcome.EXHAUSTED;
+            return Collections.emptyList();
+        }
+        table = new TranspositionTable(capacity, rows, columns);
+        table.visit(rootBoard.getPackedState(), 0);
         visitedStates++;
         try {
-            while (!stack.isEmpty()) {
-                Node currentNode = stack.pop();
-                Board currentBoard = currentNode.getState();
-                maxRecursionDepth = Math.max(maxRecursionDepth, currentNode.getDepth());
-                if (currentBoard.isBoardSolved()) {
-                    computationTime = System.nanoTime() - startTime;
-                    solutionLength = currentNode.getPath().size();
-                    return currentNode.getPath();
+            while (true) {
+                if (path.getFields() == solvedState) {
+                    List<Character> solution = new ArrayList<>(root.getPath());
+                    solution.addAll(path.getMoves());
+                    finish(startTime, startAllocation);
+                    solutionLength = solution.size();
+                    outcome = SolverOutcome.SOLVED;
+                    return solution;
                 }
-                if (currentNode.getDepth() <= MAX_DEPTH) {
-                    processedStates++;
-                    List<Node> children = currentNode.getChildren();
-                    sortChildren(children, parameter);
-                    for (Node child : children) {
-                        if (!visited.contains(child.getState()) && child.getDepth() <= MAX_DEPTH) {
-                            visited.add(child.getState());
-                            visitedStates++;
-                            stack.push(child);
-                        }
+                if (path.getDepth() < maxDepth - root.getDepth() && path.advance()) {
+                    if (table.visit(path.getFields(), path.getDepth())) {
+                        path.undo();
+                        continue;
+                    }
+                    if (budget.isExhausted(processedStates)) {
+                        break;
                     }
+                    visitedStates++;
+                    processedStates++;
+                    maxRecursionDepth = Math.max(maxRecursionDepth, root.getDepth() + path.getDepth());
+                    peakFrontierSize = Math.max(peakFrontierSize, path.getDepth());
+                } else if (path.getDepth() > 0) {
+                    path.undo();
+                } else {
+                    break;
                 }
             }
         } catch (OutOfMemoryError e) {
-            computationTime = System.nanoTime() - startTime;
+            finish(startTime, startAllocation);
             solutionLength = -1;
+            outcome = SolverOutcome.OUT_OF_MEMORY;
             return Collections.emptyList();
         }
-        computationTime = System.nanoTime() - startTime;
+        finish(startTime, startAllocation);
         solutionLength = -1;
+        outcome = budget.getOutcome() != null ? budget.getOutcome() : SolverOutcome.EXHAUSTED;
         return Collections.emptyList();
     }
 
     /**
-     * Sorts the list of child nodes based on a specific order.
+     * Records the figures that are taken when the search ends.
      *
-     * @param children   The list of child nodes to be sorted.
-     * @param moveOrder  The order in which to sort the child nodes.
+     * @param startTime       The value of System.nanoTime() when the search started.
+     * @param startAllocation The allocated bytes of the thread when the search started.
      */
-    private void sortChildren(List<Node> children, String moveOrder) {
-        children.sort((node1, node2) -> {
-            int index1 = moveOrder.indexOf(node1.getLastMove());
-            int index2 = moveOrder.indexOf(node2.getLastMove());
-            return Integer.compare(index1, index2);
-        });
-        Collections.reverse(children);
+    private void finish(long startTime, long startAllocation) {
+        computationTime = System.nanoTime() - startTime;
+        allocatedBytes = AllocationCounter.since(startAllocation, AllocationCounter.currentThread());
+        peakVisitedSize = table != null ? table.size() : 0;
     }
 
     /**
-     * Retrieves statistics about the solving process.
+     * Gets the name of the solver, which includes the depth limit and the size of the transposition table.
      *
-     * @return A string containing statistics such as solution length, visited states, processed states,
-     *         max recursion depth, and computation time.
+     * @return The name, e.g. "SolverDFS(30, 1048576)".
      */
-    public String getStats() {
-        DecimalFormat decimalFormat = new DecimalFormat("#.###");
-        return "Solution length: " + solutionLength + "\n" +
-                "Visited states: " + visitedStates + "\n" +
-                "Processed states: " + processedStates + "\n" +
-                "Max recursion depth: " + maxRecursionDepth + "\n" +
-                "Computation time (ms): " + decimalFormat.format((double) computationTime / 1_000_000_000.0);
+    @Override
+    public String getName() {
+        return "SolverDFS(" + maxDepth + ", " + tableCapacity + ")";
     }
-}
 
+    /**
+     * Retrieves statistics about the solving process. The visited-set size is the number of states held by the
+     * transposition table.
+     *
+     * @return The solution length, visited states, processed states, max recursion depth, computation time,
+     *         peak stack and table sizes, allocated bytes, outcome and transposition table figures of the last
+     *         search.
+     */
+    @Override
+    public SolverStats getStats() {
+        Map<String, String> details = new LinkedHashMap<>();
+        if (table != null) {
+            table.addDetails(details);
+        }
+        return new SolverStats(solutionLength, visitedStates, processedStates, maxRecursionDepth, computationTime,
+                peakFrontierSize, peakVisitedSize, allocatedBytes, outcome, details);
+    }
+}
@@ -0,0 +1,357 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.Board;
+import me.jangluzniewicz.graphsearchalgorithms.model.Node;
+import me.jangluzniewicz.graphsearchalgorithms.model.PackedBoard;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * SolverDiskBFS is an external-memory Breadth-First Search that keeps every layer in a sorted, delta-compressed
+ * file instead of in the heap.
+ * <p>
+ * The children of a layer are collected in a fixed-size buffer, which is sorted and written as a run whenever it
+ * fills up. The runs are then merged, and duplicates are removed in the same pass by streaming the current and the
+ * previous layer next to them: every neighbour of a state in layer d lies in layer d - 1, d or d + 1, so nothing
+ * older has to be checked. The solution is rebuilt backwards from the solved state by looking up a predecessor in
+ * every earlier layer file. Memory use depends on the buffer size only, not on the depth.
+ */
+public class SolverDiskBFS implements BoardSolverInterface {
+    private static final int DEFAULT_BUFFER_STATES = 1 << 20;
+    private final Path directory;
+    private final int bufferStates;
+    private int rows;
+    private int columns;
+    private char[] moveOrder;
+    private long solvedState;
+    private SearchBudget budget;
+    private boolean solutionFound;
+    private int solutionLength;
+    private long visitedStates;
+    private long processedStates;
+    private int maxRecursionDepth;
+    private long computationTime;
+    private long peakFrontierSize;
+    private long peakVisitedSize;
+    private long allocatedBytes;
+    private SolverOutcome outcome;
+
+    /**
+     * Constructs a SolverDiskBFS that writes its layers to the temporary directory.
+     */
+    public SolverDiskBFS() {
+        this(null, DEFAULT_BUFFER_STATES);
+    }
+
+    /**
+     * Constructs a SolverDiskBFS with the specified working directory and buffer size.
+     *
+     * @param directory    The directory to create the layer files in, or null for the temporary directory.
+     * @param bufferStates The number of states buffered in memory before a sorted run is written.
+     * @throws IllegalArgumentException if the buffer cannot hold the children of a state.
+     */
+    public SolverDiskBFS(Path directory, int bufferStates) {
+        if (bufferStates < 4) {
+            throw new IllegalArgumentException("Buffer must hold at least 4 states");
+        }
+        this.directory = directory;
+        this.bufferStates = bufferStates;
+    }
+
+    /**
+     * Solves the board puzzle using an external-memory Breadth-First Search.
+     *
+     * @param root      The root node representing the initial state of the board.
+     * @param parameter The order in which moves are preferred when the solution is rebuilt (e.g. "RDLU").
+     * @param limits    The deadline, node budget, memory budget and cancellation token of the search. Only the
+     *                  sort buffer is held in memory, so the memory budget caps its size.
+     * @return A list of characters representing the sequence of moves to solve the puzzle.
+     * @throws UncheckedIOException if the layer files cannot be written or read.
+     */
+    @Override
+    public List<Character> solve(Node root, String parameter, SolverLimits limits) {
+        Board rootBoard = root.getState();
+        rows = rootBoard.getRows();
+        columns = rootBoard.getColumns();
+        if (rootBoard.getEmptyIndex() < 0) {
+            throw new IllegalArgumentException("No empty field");
+        }
+        moveOrder = MoveOrder.compile(parameter);
+        solvedState = Board.getSolvedState(rows, columns);
+        visitedStates = 0;
+        processedStates = 0;
+        maxRecursionDepth = 0;
+        peakFrontierSize = 0;
+        peakVisitedSize = 0;
+        long startTime = System.nanoTime();
+        long startAllocation = AllocationCounter.currentThread();
+        budget = limits.start(BoardAnalysis.of(rootBoard));
+        Path workDirectory = null;
+        try {
+            workDirectory = directory != null ? Files.createTempDirectory(directory, "disk-bfs")
+                    : Files.createTempDirectory("disk-bfs");
+            List<Path> layers = new ArrayList<>();
+            layers.add(workDirectory.resolve("layer-0"));
+            try (StateFileWriter writer = new StateFileWriter(layers.getFirst())) {
+                writer.write(rootBoard.getPackedState());
+            }
+            visitedStates++;
+            solutionFound = rootBoard.getPackedState() == solvedState;
+            int capacity = (int) Math.min(bufferStates, budget.getMaxMemoryBytes() / Long.BYTES);
+            if (capacity < 4) {
+                budget.stop(SolverOutcome.MEMORY_LIMIT);
+            }
+            long[] buffer = new long[Math.max(capacity, 4)];
+            long lastLayerSize = 1;
+            peakFrontierSize = Math.max(peakFrontierSize, 1);
+            peakVisitedSize = Math.max(peakVisitedSize, 1);
+            while (!solutionFound && !budget.isInterrupted()) {
+                maxRecursionDepth = Math.max(maxRecursionDepth, root.getDepth() + layers.size() - 1);
+                Path next = workDirectory.resolve("layer-" + layers.size());
+                long count = expandLayer(layers, buffer, workDirectory, next);
+                if (count <= 0) {
+                    break;
+                }
+                layers.add(next);
+                visitedStates += count;
+                peakFrontierSize = Math.max(peakFrontierSize, count);
+                peakVisitedSize = Math.max(peakVisitedSize, lastLayerSize + count);
+                lastLayerSize = count;
+            }
+            List<Character> path = Collections.emptyList();
+            solutionLength = -1;
+            outcome = solutionFound ? SolverOutcome.SOLVED
+                    : budget.getOutcome() != null ? budget.getOutcome() : SolverOutcome.EXHAUSTED;
+            if (solutionFound) {
+                path = new ArrayList<>(root.getPath());
+                path.addAll(getPath(layers));
+                solutionLength = path.size();
+            }
+            computationTime = System.nanoTime() - startTime;
+            allocatedBytes = AllocationCounter.since(startAllocation, AllocationCounter.currentThread());
+            return path;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deleteDirectory(workDirectory);
+        }
+    }
+
+    /**
+     * Expands the last layer into sorted runs and merges them into the next layer.
+     *
+     * @param layers        The layer files written so far.
+     * @param buffer        The buffer for the children of the layer.
+     * @param workDirectory The directory the runs are written to.
+     * @param next          The file of the next layer.
+     * @return The number of states in the next layer, or -1 if a limit was hit.
+     * @throws IOException if a file cannot be written or read.
+     */
+    private long expandLayer(List<Path> layers, long[] buffer, Path workDirectory, Path next) throws IOException {
+        List<Path> runs = new ArrayList<>();
+        int size = 0;
+        try {
+            try (StateFileReader reader = new StateFileReader(layers.getLast())) {
+                while (reader.advance()) {
+                    if (budget.isExhausted(processedStates)) {
+                        return -1;
+                    }
+                    long state = reader.current();
+                    processedStates++;
+                    int emptyIndex = PackedBoard.findEmptyIndex(state, rows * columns);
+                    for (char move : moveOrder) {
+                        int target = PackedBoard.getMoveTarget(emptyIndex, move, rows, columns);
+                        if (target < 0) {
+                            continue;
+                        }
+                        if (size == buffer.length) {
+                            runs.add(writeRun(buffer, size, workDirectory.resolve("run-" + runs.size())));
+                            size = 0;
+                        }
+                        buffer[size++] = PackedBoard.slideTile(state, target, emptyIndex);
+                    }
+                }
+            }
+            runs.add(writeRun(buffer, size, workDirectory.resolve("run-" + runs.size())));
+            Path beforePrevious = layers.size() > 1 ? layers.get(layers.size() - 2) : null;
+            return merge(runs, layers.getLast(), beforePrevious, next);
+        } finally {
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+        }
+    }
+
+    /**
+     * Sorts the buffered states and writes them as a run.
+     *
+     * @param buffer The buffered states.
+     * @param size   The number of buffered states.
+     * @param path   The file of the run.
+     * @return The file of the run.
+     * @throws IOException if the run cannot be written.
+     */
+    private Path writeRun(long[] buffer, int size, Path path) throws IOException {
+        Arrays.sort(buffer, 0, size);
+        try (StateFileWriter writer = new StateFileWriter(path)) {
+            for (int i = 0; i < size; i++) {
+                writer.write(buffer[i]);
+            }
+        }
+        return path;
+    }
+
+    /**
+     * Merges sorted runs into a layer, dropping the states of the two previous layers.
+     *
+     * @param runs           The sorted runs of children.
+     * @param previous       The file of the layer that was expanded.
+     * @param beforePrevious The file of the layer before it, or null at the root.
+     * @param next           The file of the merged layer.
+     * @return The number of states in the merged layer.
+     * @throws IOException if a file cannot be written or read.
+     */
+    private long merge(List<Path> runs, Path previous, Path beforePrevious, Path next) throws IOException {
+        List<StateFileReader> readers = new ArrayList<>();
+        try {
+            PriorityQueue<StateFileReader> queue = new PriorityQueue<>(
+                    Comparator.comparingLong(StateFileReader::current));
+            for (Path run : runs) {
+                StateFileReader reader = open(run, readers);
+                if (!reader.isExhausted()) {
+                    queue.add(reader);
+                }
+            }
+            StateFileReader previousReader = open(previous, readers);
+            StateFileReader beforePreviousReader = beforePrevious != null ? open(beforePrevious, readers) : null;
+            try (StateFileWriter writer = new StateFileWriter(next)) {
+                while (!queue.isEmpty()) {
+                    StateFileReader reader = queue.poll();
+                    long state = reader.current();
+                    if (reader.advance()) {
+                        queue.add(reader);
+                    }
+                    if (contains(previousReader, state) || contains(beforePreviousReader, state)) {
+                        continue;
+                    }
+                    writer.write(state);
+                    solutionFound |= state == solvedState;
+                }
+                return writer.count();
+            }
+        } finally {
+            for (StateFileReader reader : readers) {
+                reader.close();
+            }
+        }
+    }
+
+    /**
+     * Opens a state file positioned at its first state.
+     *
+     * @param path    The state file.
+     * @param readers The list of open readers to register the new reader in.
+     * @return The reader.
+     * @throws IOException if the file cannot be read.
+     */
+    private static StateFileReader open(Path path, List<StateFileReader> readers) throws IOException {
+        StateFileReader reader = new StateFileReader(path);
+        readers.add(reader);
+        reader.advance();
+        return reader;
+    }
+
+    /**
+     * Advances a reader up to a state and checks if the file contains it. Calls must ask for ascending states.
+     *
+     * @param reader The reader, or null for an empty file.
+     * @param state  The packed board state.
+     * @return True if the file contains the state, false otherwise.
+     * @throws IOException if the file cannot be read.
+     */
+    private static boolean contains(StateFileReader reader, long state) throws IOException {
+        if (reader == null) {
+            return false;
+        }
+        while (!reader.isExhausted() && reader.current() < state) {
+            reader.advance();
+        }
+        return !reader.isExhausted() && reader.current() == state;
+    }
+
+    /**
+     * Rebuilds the path to the solved state by finding a predecessor in every earlier layer.
+     *
+     * @param layers The layer files, the last one holding the solved state.
+     * @return The moves from the initial board to the solved state.
+     * @throws IOException if a layer file cannot be read.
+     */
+    private List<Character> getPath(List<Path> layers) throws IOException {
+        List<Character> path = new ArrayList<>();
+        long state = solvedState;
+        for (int depth = layers.size() - 2; depth >= 0; depth--) {
+            int emptyIndex = PackedBoard.findEmptyIndex(state, rows * columns);
+            long[] candidates = new long[moveOrder.length];
+            int[] targets = new int[moveOrder.length];
+            for (int i = 0; i < moveOrder.length; i++) {
+                targets[i] = PackedBoard.getMoveTarget(emptyIndex, PackedBoard.getInverseMove(moveOrder[i]),
+                        rows, columns);
+                if (targets[i] >= 0) {
+                    candidates[i] = PackedBoard.slideTile(state, targets[i], emptyIndex);
+                }
+            }
+            boolean[] present = new boolean[moveOrder.length];
+            try (StateFileReader reader = new StateFileReader(layers.get(depth))) {
+                while (reader.advance()) {
+                    for (int i = 0; i < moveOrder.length; i++) {
+                        present[i] |= targets[i] >= 0 && candidates[i] == reader.current();
+                    }
+                }
+            }
+            int chosen = 0;
+            while (!present[chosen]) {
+                chosen++;
+            }
+            path.add(moveOrder[chosen]);
+            state = candidates[chosen];
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * Deletes a working directory and the files in it.
+     *
+     * @param workDirectory The directory, or null if it was never created.
+     */
+    private static void deleteDirectory(Path workDirectory) {
+        if (workDirectory == null) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(workDirectory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Retrieves statistics about the solving process. The peak frontier size is the largest layer, and the peak
+     * visited-set size is the largest pair of consecutive layers the duplicate detection streams from disk.
+     *
+     * @return The solution length, visited states, processed states, max recursion depth, computation time,
+     *         peak sizes, allocated bytes and outcome of the last search.
+     */
+    @Override
+    public SolverStats getStats() {
+        return new SolverStats(solutionLength, visitedStates, processedStates, maxRecursionDepth, computationTime,
+                peakFrontierSize, peakVisitedSize, allocatedBytes, outcome);
+    }
+}
@@ -0,0 +1,372 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.Board;
+import me.jangluzniewicz.graphsearchalgorithms.model.MoveTable;
+import me.jangluzniewicz.graphsearchalgorithms.model.Node;
+import me.jangluzniewicz.graphsearchalgorithms.model.PackedBoard;
+
+import java.text.DecimalFormat;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hash-distributed A* (HDA*) implementation for solving board puzzles on several threads.
+ * <p>
+ * Every worker owns the states whose hash falls into its partition and keeps its own open list and table of best
+ * costs. Children owned by another worker are sent to it through a lock-free mailbox. A worker records a solution
+ * when it expands the solved state, and the cost of the best solution found so far bounds every worker: a worker
+ * whose open list holds no state with a total cost below that bound is idle.
+ * <p>
+ * A shared counter holds the number of busy workers plus the number of messages in flight. A worker increments
+ * it before it leaves the idle state to handle a message and decrements it when it becomes idle, so the counter
+ * only reaches zero once every worker is idle and every mailbox is empty. At that point no open list holds a
+ * state that could lead to a cheaper solution, so with an admissible heuristic the best solution is optimal.
+ */
+public class SolverHDAStar implements BoardSolverInterface {
+    private static final char[] MOVES = {'U', 'D', 'L', 'R'};
+    private static final int ROOT_MOVE = MOVES.length;
+    private static final int MOVE_BITS = 8;
+    private static final int REPORT_INTERVAL = 64;
+    private static final long BYTES_PER_OPEN_ENTRY = 48;
+    private final int workerCount;
+    private int rows;
+    private int columns;
+    private MoveTable moveTable;
+    private long solvedState;
+    private Worker[] workers;
+    private final AtomicInteger bestCost = new AtomicInteger();
+    private final AtomicLong activity = new AtomicLong();
+    private final AtomicLong reportedExpansions = new AtomicLong();
+    private SearchBudget budget;
+    private volatile boolean finished;
+    private volatile Throwable failure;
+    private int solutionLength;
+    private int visitedStates;
+    private int processedStates;
+    private int maxRecursionDepth;
+    private long computationTime;
+    private long peakFrontierSize;
+    private long peakVisitedSize;
+    private long allocatedBytes;
+    private SolverOutcome outcome;
+    private long[] workerExpansions = new long[0];
+
+    /**
+     * Constructs a SolverHDAStar with one worker per available processor.
+     */
+    public SolverHDAStar() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a SolverHDAStar with the specified number of workers.
+     *
+     * @param workerCount The number of worker threads and hash partitions.
+     * @throws IllegalArgumentException if the number of workers is not positive.
+     */
+    public SolverHDAStar(int workerCount) {
+        if (workerCount < 1) {
+            throw new IllegalArgumentException("Worker count must be positive");
+        }
+        this.workerCount = workerCount;
+    }
+
+    /**
+     * Solves the board puzzle using the hash-distributed A* search algorithm.
+     *
+     * @param root      The root node representing the initial state of the board.
+     * @param parameter A parameter to customize the solving process ("MANH" for Manhattan distance,
+     *                  "HAMM" for Hamming distance, "LINC" for linear conflicts, "WALK" for walking distance,
+     *                  "PDB" for pattern databases).
+     * @param limits    The deadline, node budget, memory budget and cancellation token of the search. Workers
+     *                  report their expansions and footprints in batches, so the budgets may be overrun by a
+     *                  batch per worker.
+     * @return A list of characters representing the sequence of moves to solve the puzzle. If the calling thread
+     *         is interrupted, the workers are stopped and waited for, the search ends as cancelled and the
+     *         interrupt status is restored.
+     * @throws IllegalStateException if a worker fails with an exception.
+     */
+    @Override
+    public List<Character> solve(Node root, String parameter, SolverLimits limits) {
+        Board rootBoard = root.getState();
+        rows = rootBoard.getRows();
+        columns = rootBoard.getColumns();
+        moveTable = MoveTable.of(rows, columns);
+        if (rootBoard.getEmptyIndex() < 0) {
+            throw new IllegalArgumentException("No empty field");
+        }
+        solvedState = Board.getSolvedState(rows, columns);
+        workers = new Worker[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            workers[i] = new Worker(HeuristicFactory.getHeuristic(parameter, rows, columns));
+        }
+        bestCost.set(Integer.MAX_VALUE);
+        activity.set(workerCount);
+        finished = false;
+        failure = null;
+        reportedExpansions.set(0);
+        budget = limits.start(BoardAnalysis.of(rootBoard));
+        long startTime = System.nanoTime();
+        long startAllocation = AllocationCounter.allThreads();
+        long rootState = rootBoard.getPackedState();
+        Worker owner = workers[getOwner(rootState)];
+        owner.receive(new Entry(rootState, 0, owner.heuristic.estimate(rootState), ROOT_MOVE));
+        Thread[] threads = new Thread[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            threads[i] = new Thread(workers[i], "hda-worker-" + i);
+            threads[i].start();
+        }
+        boolean interrupted = false;
+        for (Thread thread : threads) {
+            while (true) {
+                try {
+                    thread.join();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    budget.stop(SolverOutcome.CANCELLED);
+                    finished = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        workerExpansions = new long[workerCount];
+        visitedStates = 0;
+        processedStates = 0;
+        maxRecursionDepth = 0;
+        peakFrontierSize = 0;
+        for (int i = 0; i < workerCount; i++) {
+            peakFrontierSize += workers[i].peakOpenListSize;
+            workerExpansions[i] = workers[i].expansions;
+            visitedStates += workers[i].best.size();
+            processedStates += (int) workers[i].expansions;
+            maxRecursionDepth = Math.max(maxRecursionDepth, root.getDepth() + workers[i].maxDepth);
+        }
+        peakVisitedSize = visitedStates;
+        List<Character> solution = Collections.emptyList();
+        solutionLength = -1;
+        outcome = budget.getOutcome() != null ? budget.getOutcome()
+                : bestCost.get() != Integer.MAX_VALUE ? SolverOutcome.SOLVED : SolverOutcome.EXHAUSTED;
+        if (failure instanceof OutOfMemoryError) {
+            outcome = SolverOutcome.OUT_OF_MEMORY;
+        } else if (failure != null) {
+            workers = null;
+            throw new IllegalStateException("Worker failed", failure);
+        }
+        if (outcome == SolverOutcome.SOLVED) {
+            solution = new ArrayList<>(root.getPath());
+            solution.addAll(getPath(solvedState));
+            solutionLength = solution.size();
+        }
+        workers = null;
+        computationTime = System.nanoTime() - startTime;
+        allocatedBytes = AllocationCounter.since(startAllocation, AllocationCounter.allThreads());
+        return solution;
+    }
+
+    /**
+     * Finds the worker that owns a state.
+     *
+     * @param state The packed board state.
+     * @return The index of the owning worker.
+     */
+    private int getOwner(long state) {
+        return (VisitedStateSet.mix(state) & Integer.MAX_VALUE) % workerCount;
+    }
+
+    /**
+     * Rebuilds the path to a state from the moves recorded by the owners of the states along it.
+     *
+     * @param state The packed state at the end of the path.
+     * @return The moves from the initial board to the state.
+     */
+    private List<Character> getPath(long state) {
+        List<Character> path = new ArrayList<>();
+        int emptyIndex = PackedBoard.findEmptyIndex(state, rows * columns);
+        int move = (int) (workers[getOwner(state)].best.get(state, -1) & ((1 << MOVE_BITS) - 1));
+        while (move != ROOT_MOVE) {
+            path.add(MOVES[move]);
+            int previousEmptyIndex = PackedBoard.getMoveTarget(emptyIndex, PackedBoard.getInverseMove(MOVES[move]),
+                    rows, columns);
+            state = PackedBoard.slideTile(state, previousEmptyIndex, emptyIndex);
+            emptyIndex = previousEmptyIndex;
+            move = (int) (workers[getOwner(state)].best.get(state, -1) & ((1 << MOVE_BITS) - 1));
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * Gets the number of states every worker expanded in the last search.
+     *
+     * @return The expansion counts, indexed by worker.
+     */
+    public long[] getWorkerExpansions() {
+        return workerExpansions.clone();
+    }
+
+    /**
+     * Gets the load imbalance of the last search, the largest expansion count divided by the mean.
+     *
+     * @return The load imbalance, 1 when the work was spread evenly.
+     */
+    public double getLoadImbalance() {
+        long total = 0;
+        long maximum = 0;
+        for (long expansions : workerExpansions) {
+            total += expansions;
+            maximum = Math.max(maximum, expansions);
+        }
+        return total == 0 ? 1 : (double) maximum * workerExpansions.length / total;
+    }
+
+    /**
+     * Entry is a state with its cost from the root, its total estimated cost and the move that reached it.
+     */
+    private record Entry(long state, int depth, int totalCost, int move) {
+    }
+
+    /**
+     * Worker searches the states of one hash partition.
+     */
+    private final class Worker implements Runnable {
+        private final HeuristicInterface heuristic;
+        private final Queue<Entry> mailbox = new ConcurrentLinkedQueue<>();
+        private final PriorityQueue<Entry> openList = new PriorityQueue<>(Comparator.comparingInt(Entry::totalCost)
+                .thenComparing(Comparator.comparingInt(Entry::depth).reversed()));
+        private final LongLongHashMap best = new LongLongHashMap();
+        private long expansions;
+        private int maxDepth;
+        private int peakOpenListSize;
+        private boolean idle;
+
+        /**
+         * Constructs a Worker with its own heuristic instance.
+         *
+         * @param heuristic The heuristic, used by this worker only.
+         */
+        Worker(HeuristicInterface heuristic) {
+            this.heuristic = heuristic;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!finished) {
+                    Entry message;
+                    while ((message = mailbox.poll()) != null) {
+                        if (idle) {
+                            activity.incrementAndGet();
+                            idle = false;
+                        }
+                        receive(message);
+                        activity.decrementAndGet();
+                    }
+                    Entry entry = openList.peek();
+                    if (entry != null && entry.totalCost() < bestCost.get()) {
+                        expand(openList.poll());
+                    } else if (!idle) {
+                        idle = true;
+                        if (activity.decrementAndGet() == 0) {
+                            finished = true;
+                        }
+                    } else {
+                        Thread.onSpinWait();
+                    }
+                }
+            } catch (Throwable e) {
+                failure = e;
+                finished = true;
+            }
+        }
+
+        /**
+         * Queues a state if it is new to this worker or was reached by a shorter route.
+         *
+         * @param entry The state owned by this worker.
+         */
+        void receive(Entry entry) {
+            long known = best.get(entry.state(), -1);
+            if (known >= 0 && known >>> MOVE_BITS <= entry.depth()) {
+                return;
+            }
+            best.put(entry.state(), ((long) entry.depth() << MOVE_BITS) | entry.move());
+            openList.add(entry);
+            peakOpenListSize = Math.max(peakOpenListSize, openList.size());
+        }
+
+        /**
+         * Expands a state and sends each child to its owner.
+         *
+         * @param entry The state to expand.
+         */
+        private void expand(Entry entry) {
+            long state = entry.state();
+            if (best.get(state, -1) >>> MOVE_BITS < entry.depth()) {
+                return;
+            }
+            expansions++;
+            if (expansions % REPORT_INTERVAL == 0) {
+                long total = reportedExpansions.addAndGet(REPORT_INTERVAL);
+                if (budget.exceedsNodeBudget(total) || budget.isInterrupted()) {
+                    finished = true;
+                    return;
+                }
+                if (budget.exceedsMemory(workerCount * (best.size() * LongLongHashMap.BYTES_PER_ENTRY
+                        + (long) openList.size() * BYTES_PER_OPEN_ENTRY))) {
+                    budget.stop(SolverOutcome.MEMORY_LIMIT);
+                    finished = true;
+                    return;
+                }
+            }
+            maxDepth = Math.max(maxDepth, entry.depth());
+            if (state == solvedState) {
+                bestCost.accumulateAndGet(entry.depth(), Math::min);
+                return;
+            }
+            int emptyIndex = PackedBoard.findEmptyIndex(state, rows * columns);
+            int estimate = entry.totalCost() - entry.depth();
+            for (int move = 0; move < MOVES.length; move++) {
+                if (entry.move() != ROOT_MOVE && MOVES[move] == PackedBoard.getInverseMove(MOVES[entry.move()])) {
+                    continue;
+                }
+                int target = moveTable.getTarget(emptyIndex, MOVES[move]);
+                if (target < 0) {
+                    continue;
+                }
+                int value = PackedBoard.getFieldValue(state, target);
+                long child = PackedBoard.slideTile(state, target, emptyIndex);
+                int depth = entry.depth() + 1;
+                Entry childEntry = new Entry(child, depth,
+                        depth + heuristic.update(child, estimate, value, target, emptyIndex), move);
+                Worker owner = workers[getOwner(child)];
+                if (owner == this) {
+                    receive(childEntry);
+                } else {
+                    activity.incrementAndGet();
+                    owner.mailbox.add(childEntry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieves statistics about the solving process. The peak frontier size is the sum of the peak open list
+     * sizes of the workers, and the allocated bytes are counted over all threads.
+     *
+     * @return The solution length, visited states, processed states, max recursion depth, computation time,
+     *         peak sizes, allocated bytes, outcome, expansions per worker and load imbalance of the last search.
+     */
+    @Override
+    public SolverStats getStats() {
+        Map<String, String> details = new LinkedHashMap<>();
+        details.put("Expansions per worker", Arrays.toString(workerExpansions));
+        details.put("Load imbalance", new DecimalFormat("#.##").format(getLoadImbalance()));
+        return new SolverStats(solutionLength, visitedStates, processedStates, maxRecursionDepth, computationTime,
+                peakFrontierSize, peakVisitedSize, allocatedBytes, outcome, details);
+    }
+}
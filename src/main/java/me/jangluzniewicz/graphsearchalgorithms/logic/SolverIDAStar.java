@@ -0,0 +1,184 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.Board;
+import me.jangluzniewicz.graphsearchalgorithms.model.MoveTable;
+import me.jangluzniewicz.graphsearchalgorithms.model.Node;
+import me.jangluzniewicz.graphsearchalgorithms.model.PackedBoard;
+
+import java.util.*;
+
+/**
+ * Iterative-deepening A* (IDA*) implementation for solving board puzzles.
+ * Every iteration runs a depth-first search bounded by a cost threshold, which is raised to the smallest cost
+ * that exceeded it. The search works in place on a packed board state and keeps only the current path, so memory
+ * grows with the solution depth rather than with the number of states.
+ */
+public class SolverIDAStar implements BoardSolverInterface {
+    private static final char[] MOVES = {'U', 'D', 'L', 'R'};
+    private static final int FOUND = -1;
+    private static final int STOPPED = -2;
+    private HeuristicInterface heuristic;
+    private SearchBudget budget;
+    private long expansionOffset;
+    private int rows;
+    private int columns;
+    private MoveTable moveTable;
+    private long solvedState;
+    private SearchPath path;
+    private int solutionLength;
+    private int visitedStates;
+    private int processedStates;
+    private int maxRecursionDepth;
+    private long computationTime;
+    private long allocatedBytes;
+    private SolverOutcome outcome;
+    private int iterations;
+    private final List<Integer> thresholds = new ArrayList<>();
+
+    /**
+     * Solves the board puzzle using the IDA* search algorithm.
+     *
+     * @param root      The root node representing the initial state of the board.
+     * @param parameter A parameter to customize the solving process ("MANH" for Manhattan distance,
+     *                  "HAMM" for Hamming distance, "LINC" for linear conflicts, "WALK" for walking distance,
+     *                  "PDB" for pattern databases).
+     * @param limits    The deadline, node budget and cancellation token of the search. IDA* stores no states,
+     *                  so the memory budget does not apply.
+     * @return A list of characters representing the sequence of moves to solve the puzzle.
+     */
+    @Override
+    public List<Character> solve(Node root, String parameter, SolverLimits limits) {
+        return solve(root, parameter, limits.start(BoardAnalysis.of(root.getState())), 0, 0);
+    }
+
+    /**
+     * Solves the board puzzle within a running budget, starting from a known lower bound on the solution length.
+     * Lets another solver hand its search over to IDA* part way through.
+     *
+     * @param root            The root node representing the initial state of the board.
+     * @param parameter       The heuristic, as for {@link #solve(Node, String, SolverLimits)}.
+     * @param budget          The budget of the search, already running.
+     * @param expansionOffset The number of states expanded before this search, counted against the node budget.
+     * @param lowerBound      A lower bound on the number of moves from the root to the solved board.
+     * @return A list of characters representing the sequence of moves to solve the puzzle.
+     */
+    List<Character> solve(Node root, String parameter, SearchBudget budget, long expansionOffset, int lowerBound) {
+        Board rootBoard = root.getState();
+        rows = rootBoard.getRows();
+        columns = rootBoard.getColumns();
+        moveTable = MoveTable.of(rows, columns);
+        if (rootBoard.getEmptyIndex() < 0) {
+            throw new IllegalArgumentException("No empty field");
+        }
+        heuristic = HeuristicFactory.getHeuristic(parameter, rows, columns);
+        solvedState = Board.getSolvedState(rows, columns);
+        solutionLength = 0;
+        visitedStates = 1;
+        processedStates = 0;
+        maxRecursionDepth = 0;
+        iterations = 0;
+        thresholds.clear();
+        long startTime = System.nanoTime();
+        long startAllocation = AllocationCounter.currentThread();
+        this.budget = budget;
+        this.expansionOffset = expansionOffset;
+        int estimate = heuristic.estimate(rootBoard.getPackedState());
+        int threshold = Math.max(estimate, lowerBound);
+        while (true) {
+            iterations++;
+            thresholds.add(threshold);
+            path = new SearchPath(rootBoard.getPackedState(), rootBoard.getEmptyIndex(), moveTable, MOVES);
+            int result = search(estimate, threshold);
+            if (result == FOUND) {
+                List<Character> solution = new ArrayList<>(root.getPath());
+                solution.addAll(path.getMoves());
+                computationTime = System.nanoTime() - startTime;
+                allocatedBytes = AllocationCounter.since(startAllocation, AllocationCounter.currentThread());
+                solutionLength = solution.size();
+                outcome = SolverOutcome.SOLVED;
+                return solution;
+            }
+            if (result == Integer.MAX_VALUE || result == STOPPED) {
+                computationTime = System.nanoTime() - startTime;
+                allocatedBytes = AllocationCounter.since(startAllocation, AllocationCounter.currentThread());
+                solutionLength = -1;
+                outcome = result == STOPPED ? budget.getOutcome() : SolverOutcome.EXHAUSTED;
+                return Collections.emptyList();
+            }
+            threshold = result;
+        }
+    }
+
+    /**
+     * Searches depth-first below the state at the end of the path, pruning every state whose cost exceeds the
+     * threshold. The path is back at the same state when the search returns, unless the goal was found.
+     *
+     * @param estimate  The heuristic estimate of the state at the end of the path.
+     * @param threshold The cost threshold of the current iteration.
+     * @return FOUND if the goal was reached, STOPPED if a limit was hit, otherwise the smallest cost that exceeded
+     *         the threshold.
+     */
+    private int search(int estimate, int threshold) {
+        int depth = path.getDepth();
+        int cost = depth + estimate;
+        if (cost > threshold) {
+            return cost;
+        }
+        maxRecursionDepth = Math.max(maxRecursionDepth, depth);
+        if (path.getFields() == solvedState) {
+            return FOUND;
+        }
+        if (budget.isExhausted(expansionOffset + processedStates)) {
+            return STOPPED;
+        }
+        processedStates++;
+        int minimum = Integer.MAX_VALUE;
+        while (path.advance()) {
+            long child = path.getFields();
+            int previous = path.getPreviousEmptyIndex();
+            visitedStates++;
+            int result = search(heuristic.update(child, estimate, PackedBoard.getFieldValue(child, previous),
+                    path.getEmptyIndex(), previous), threshold);
+            if (result == FOUND || result == STOPPED) {
+                return result;
+            }
+            path.undo();
+            minimum = Math.min(minimum, result);
+        }
+        return minimum;
+    }
+
+    /**
+     * Gets the number of iterations of the last search.
+     *
+     * @return The number of iterations.
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Gets the cost threshold used in every iteration of the last search.
+     *
+     * @return The thresholds in iteration order.
+     */
+    public List<Integer> getThresholds() {
+        return Collections.unmodifiableList(thresholds);
+    }
+
+    /**
+     * Retrieves statistics about the solving process. IDA* keeps no frontier and no visited set, so their peak
+     * sizes are 0.
+     *
+     * @return The solution length, visited states, processed states, max recursion depth, computation time,
+     *         allocated bytes, outcome, iterations and thresholds of the last search.
+     */
+    @Override
+    public SolverStats getStats() {
+        Map<String, String> details = new LinkedHashMap<>();
+        details.put("Iterations", String.valueOf(iterations));
+        details.put("Thresholds", thresholds.toString());
+        return new SolverStats(solutionLength, visitedStates, processedStates, maxRecursionDepth, computationTime,
+                0, 0, allocatedBytes, outcome, details);
+    }
+}
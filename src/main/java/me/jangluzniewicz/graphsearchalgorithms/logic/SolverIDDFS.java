@@ -0,0 +1,221 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.Board;
+import me.jangluzniewicz.graphsearchalgorithms.model.MoveTable;
+import me.jangluzniewicz.graphsearchalgorithms.model.Node;
+
+import java.util.*;
+
+/**
+ * SolverIDDFS implements iterative-deepening Depth-First Search to solve board puzzles. It runs depth-limited
+ * searches with limits 0, 1, 2 and so on up to a maximum depth, so the first solution found is a shortest one,
+ * as with Breadth-First Search. A board whose lower bound is above the maximum depth is given up without a search.
+ * <p>
+ * By default there is no visited set: every iteration walks a single packed board with do/undo moves and prunes
+ * only the move that undoes the previous one, so memory grows with the depth limit rather than with the number of
+ * states. Given a table size, the search also keeps a bounded {@link TranspositionTable}, emptied at the start of
+ * every iteration, that prunes a state reached again at the same or a greater depth. That cuts the transpositions
+ * the move-undo rule misses for a fixed amount of memory, and the solutions stay shortest.
+ */
+public class SolverIDDFS implements BoardSolverInterface {
+    private static final int DEFAULT_MAX_DEPTH = 80;
+    private final int maxDepth;
+    private final int tableCapacity;
+    private final List<Long> iterationNodes = new ArrayList<>();
+    private int solutionLength;
+    private long visitedStates;
+    private long processedStates;
+    private int maxRecursionDepth;
+    private long computationTime;
+    private long allocatedBytes;
+    private SolverOutcome outcome;
+    private TranspositionTable table;
+    private long peakTableSize;
+
+    /**
+     * Constructs a SolverIDDFS with a maximum depth of 80 moves, enough for any 15 puzzle.
+     */
+    public SolverIDDFS() {
+        this(DEFAULT_MAX_DEPTH);
+    }
+
+    /**
+     * Constructs a SolverIDDFS with a maximum depth.
+     *
+     * @param maxDepth The depth limit of the last iteration.
+     * @throws IllegalArgumentException if the maximum depth is negative.
+     */
+    public SolverIDDFS(int maxDepth) {
+        if (maxDepth < 0) {
+            throw new IllegalArgumentException("Depth limit must not be negative");
+        }
+        this.maxDepth = maxDepth;
+        this.tableCapacity = 0;
+    }
+
+    /**
+     * Constructs a SolverIDDFS with a maximum depth and a transposition table.
+     *
+     * @param maxDepth      The depth limit of the last iteration, at most 255.
+     * @param tableCapacity The number of slots of the transposition table, rounded down to a power of two.
+     * @throws IllegalArgumentException if the maximum depth is negative or above 255, or the table has fewer than
+     *                                  1024 slots.
+     */
+    public SolverIDDFS(int maxDepth, int tableCapacity) {
+        if (maxDepth < 0 || maxDepth > TranspositionTable.MAX_DEPTH) {
+            throw new IllegalArgumentException("Depth limit must be between 0 and 255");
+        }
+        if (tableCapacity < TranspositionTable.MIN_CAPACITY) {
+            throw new IllegalArgumentException("Transposition table must have at least 1024 slots");
+        }
+        this.maxDepth = maxDepth;
+        this.tableCapacity = tableCapacity;
+    }
+
+    /**
+     * Solves the board puzzle using iterative-deepening Depth-First Search.
+     *
+     * @param root      The root node representing the initial state of the board.
+     * @param parameter The order in which moves are tried (e.g. "RDLU").
+     * @param limits    The deadline, node budget, memory budget and cancellation token of the search. Without a
+     *                  transposition table the search stores no states and the memory budget does not apply;
+     *                  with one, the memory budget caps its size.
+     * @return A list of characters representing the sequence of moves to solve the puzzle.
+     */
+    @Override
+    public List<Character> solve(Node root, String parameter, SolverLimits limits) {
+        Board rootBoard = root.getState();
+        int rows = rootBoard.getRows();
+        int columns = rootBoard.getColumns();
+        if (rootBoard.getEmptyIndex() < 0) {
+            throw new IllegalArgumentException("No empty field");
+        }
+        long solvedState = Board.getSolvedState(rows, columns);
+        MoveTable moveTable = MoveTable.of(rows, columns);
+        char[] moveOrder = MoveOrder.compile(parameter);
+        iterationNodes.clear();
+        visitedStates = 1;
+        processedStates = 0;
+        maxRecursionDepth = 0;
+        peakTableSize = 0;
+        long startTime = System.nanoTime();
+        long startAllocation = AllocationCounter.currentThread();
+        BoardAnalysis analysis = BoardAnalysis.of(rootBoard);
+        SearchBudget budget = limits.start(analysis);
+        table = null;
+        if (tableCapacity > 0) {
+            int capacity = TranspositionTable.capacityWithin(tableCapacity, budget.getMaxMemoryBytes());
+            if (capacity == 0) {
+                budget.stop(SolverOutcome.MEMORY_LIMIT);
+            } else {
+                table = new TranspositionTable(capacity, rows, columns);
+            }
+        }
+        int lastLimit = analysis.lowerBound() <= maxDepth ? maxDepth : -1;
+        for (int limit = 0; limit <= lastLimit && budget.getOutcome() == null; limit++) {
+            SearchPath path = new SearchPath(rootBoard.getPackedState(), rootBoard.getEmptyIndex(), moveTable,
+                    moveOrder);
+            if (table != null) {
+                table.clear();
+                table.visit(rootBoard.getPackedState(), 0);
+            }
+            long nodes = 1;
+            boolean deeper = false;
+            while (true) {
+                if (path.getFields() == solvedState) {
+                    iterationNodes.add(nodes);
+                    List<Character> solution = new ArrayList<>(root.getPath());
+                    solution.addAll(path.getMoves());
+                    finish(startTime, startAllocation);
+                    solutionLength = solution.size();
+                    outcome = SolverOutcome.SOLVED;
+                    return solution;
+                }
+                if (path.getDepth() < limit && path.advance()) {
+                    if (table != null && table.visit(path.getFields(), path.getDepth())) {
+                        path.undo();
+                        continue;
+                    }
+                    if (budget.isExhausted(processedStates)) {
+                        break;
+                    }
+                    nodes++;
+                    processedStates++;
+                    maxRecursionDepth = Math.max(maxRecursionDepth, path.getDepth());
+                } else {
+                    deeper |= path.getDepth() == limit;
+                    if (path.getDepth() == 0) {
+                        break;
+                    }
+                    path.undo();
+                }
+            }
+            iterationNodes.add(nodes);
+            visitedStates += nodes - 1;
+            if (table != null) {
+                peakTableSize = Math.max(peakTableSize, table.size());
+            }
+            if (!deeper) {
+                break;
+            }
+        }
+        finish(startTime, startAllocation);
+        solutionLength = -1;
+        outcome = budget.getOutcome() != null ? budget.getOutcome() : SolverOutcome.EXHAUSTED;
+        return Collections.emptyList();
+    }
+
+    /**
+     * Records the figures that are taken when the search ends.
+     *
+     * @param startTime       The value of System.nanoTime() when the search started.
+     * @param startAllocation The allocated bytes of the thread when the search started.
+     */
+    private void finish(long startTime, long startAllocation) {
+        if (table != null) {
+            peakTableSize = Math.max(peakTableSize, table.size());
+        }
+        computationTime = System.nanoTime() - startTime;
+        allocatedBytes = AllocationCounter.since(startAllocation, AllocationCounter.currentThread());
+    }
+
+    /**
+     * Gets the number of states generated by every iteration of the last search, including the root.
+     *
+     * @return The node counts in iteration order, the first for depth limit 0.
+     */
+    public List<Long> getIterationNodes() {
+        return Collections.unmodifiableList(iterationNodes);
+    }
+
+    /**
+     * Gets the name of the solver, which includes the maximum depth and the size of the transposition table if
+     * there is one.
+     *
+     * @return The name, e.g. "SolverIDDFS(80)".
+     */
+    @Override
+    public String getName() {
+        return "SolverIDDFS(" + maxDepth + (tableCapacity > 0 ? ", " + tableCapacity : "") + ")";
+    }
+
+    /**
+     * Retrieves statistics about the solving process. The frontier is the current path, and the visited-set size
+     * is the largest number of states the transposition table held in an iteration, or 0 without a table.
+     *
+     * @return The solution length, visited states, processed states, max recursion depth, computation time,
+     *         peak path length and table size, allocated bytes, outcome, iterations, nodes per iteration and
+     *         transposition table figures of the last search.
+     */
+    @Override
+    public SolverStats getStats() {
+        Map<String, String> details = new LinkedHashMap<>();
+        details.put("Iterations", String.valueOf(iterationNodes.size()));
+        details.put("Nodes per iteration", iterationNodes.toString());
+        if (table != null) {
+            table.addDetails(details);
+        }
+        return new SolverStats(solutionLength, visitedStates, processedStates, maxRecursionDepth, computationTime,
+                maxRecursionDepth, peakTableSize, allocatedBytes, outcome, details);
+    }
+}
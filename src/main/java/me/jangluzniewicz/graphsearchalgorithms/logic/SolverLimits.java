@@ -0,0 +1,67 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import java.time.Duration;
+
+/**
+ * SolverLimits bounds a search by time, by the number of expanded states, by the memory its stored states take
+ * and by a cancellation token. A search that hits a limit returns an empty solution, and its statistics report
+ * which limit stopped it.
+ * <p>
+ * The memory budget applies to an estimate each solver keeps of its own footprint, counted per stored state
+ * with room for the next growth of its tables, so a solver acts before the heap actually fills up. Most solvers
+ * stop; A* continues as IDA*, whose memory grows with the solution depth only.
+ *
+ * @param timeLimit      The longest time the search may take from the call to solve, or null for no limit.
+ * @param maxExpansions  The largest number of states the search may expand, or Long.MAX_VALUE for no limit.
+ * @param maxMemoryBytes The largest estimated footprint of the stored states, or Long.MAX_VALUE for no limit.
+ * @param cancellation   The token that cancels the search, or null if the search cannot be cancelled.
+ */
+public record SolverLimits(Duration timeLimit, long maxExpansions, long maxMemoryBytes,
+                           CancellationToken cancellation) {
+    /**
+     * Limits that never stop a search.
+     */
+    public static final SolverLimits NONE = new SolverLimits(null, Long.MAX_VALUE, Long.MAX_VALUE, null);
+
+    /**
+     * Constructs a SolverLimits.
+     *
+     * @throws IllegalArgumentException if the time limit is negative or the node or memory budget is not positive.
+     */
+    public SolverLimits {
+        if (timeLimit != null && timeLimit.isNegative()) {
+            throw new IllegalArgumentException("Time limit must not be negative");
+        }
+        if (maxExpansions < 1) {
+            throw new IllegalArgumentException("Node budget must be positive");
+        }
+        if (maxMemoryBytes < 1) {
+            throw new IllegalArgumentException("Memory budget must be positive");
+        }
+    }
+
+    /**
+     * Creates limits that only allow a search to be cancelled.
+     *
+     * @param cancellation The token that cancels the search.
+     * @return The limits.
+     */
+    public static SolverLimits cancellable(CancellationToken cancellation) {
+        return new SolverLimits(null, Long.MAX_VALUE, Long.MAX_VALUE, cancellation);
+    }
+
+    /**
+     * Starts the clock of these limits for a search that begins now. A budget for a board that cannot be solved
+     * is stopped from the start, so the search ends at its first check.
+     *
+     * @param analysis The analysis of the initial board.
+     * @return The budget of the search.
+     */
+    SearchBudget start(BoardAnalysis analysis) {
+        SearchBudget budget = new SearchBudget(this);
+        if (!analysis.solvable()) {
+            budget.stop(SolverOutcome.UNSOLVABLE);
+        }
+        return budget;
+    }
+}
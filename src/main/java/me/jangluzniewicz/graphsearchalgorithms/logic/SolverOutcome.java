@@ -0,0 +1,39 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+/**
+ * The ways a search can end.
+ */
+public enum SolverOutcome {
+    /**
+     * A solution was found.
+     */
+    SOLVED,
+    /**
+     * Every state the solver could reach was searched without finding a solution.
+     */
+    EXHAUSTED,
+    /**
+     * The search ran past its deadline.
+     */
+    TIME_LIMIT,
+    /**
+     * The search expanded as many states as it was allowed to.
+     */
+    NODE_LIMIT,
+    /**
+     * The estimated footprint of the stored states reached the memory budget.
+     */
+    MEMORY_LIMIT,
+    /**
+     * The search was cancelled through its cancellation token.
+     */
+    CANCELLED,
+    /**
+     * The search ran out of memory.
+     */
+    OUT_OF_MEMORY,
+    /**
+     * The board cannot be solved, which the check before the search found.
+     */
+    UNSOLVABLE
+}
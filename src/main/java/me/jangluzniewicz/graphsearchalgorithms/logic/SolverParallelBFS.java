@@ -0,0 +1,295 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.Board;
+import me.jangluzniewicz.graphsearchalgorithms.model.Node;
+import me.jangluzniewicz.graphsearchalgorithms.model.PackedBoard;
+
+import java.io.Serial;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * SolverParallelBFS is a level-synchronous Breadth-First Search that expands every depth layer with fork-join
+ * tasks over a striped concurrent visited map.
+ * <p>
+ * Every child is claimed with the position of its parent in the layer and the rank of its move in the move order,
+ * and the smallest claim wins. That is the parent and move a sequential BFS would have reached the child with
+ * first, and sorting the next layer by claim restores the sequential queue order, so the result is the same
+ * shortest path {@link SolverBFS} returns for the same move order, whatever the thread interleaving.
+ */
+public class SolverParallelBFS implements BoardSolverInterface {
+    private static final int DEPTH_SHIFT = 40;
+    private static final long CLAIM_MASK = (1L << DEPTH_SHIFT) - 1;
+    private static final int MOVE_BITS = 2;
+    private static final int SPLIT_THRESHOLD = 1 << 10;
+    private final int parallelism;
+    private int rows;
+    private int columns;
+    private char[] moveOrder;
+    private StripedStateMap visited;
+    private SearchBudget budget;
+    private int solutionLength;
+    private int visitedStates;
+    private int processedStates;
+    private int maxRecursionDepth;
+    private long computationTime;
+    private long peakFrontierSize;
+    private long peakVisitedSize;
+    private long allocatedBytes;
+    private SolverOutcome outcome;
+
+    /**
+     * Constructs a SolverParallelBFS that uses every available processor.
+     */
+    public SolverParallelBFS() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a SolverParallelBFS with the specified number of worker threads.
+     *
+     * @param parallelism The number of worker threads.
+     * @throws IllegalArgumentException if the number of worker threads is not positive.
+     */
+    public SolverParallelBFS(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Solves the board puzzle using a parallel Breadth-First Search.
+     *
+     * @param root      The root node representing the initial state of the board.
+     * @param parameter The order in which moves are tried (e.g. "RDLU").
+     * @param limits    The deadline, node budget, memory budget and cancellation token of the search. The node
+     *                  and memory budgets are checked before every layer, so a layer that may not fit into them
+     *                  is not expanded.
+     * @return A list of characters representing the sequence of moves to solve the puzzle.
+     */
+    @Override
+    public List<Character> solve(Node root, String parameter, SolverLimits limits) {
+        Board rootBoard = root.getState();
+        rows = rootBoard.getRows();
+        columns = rootBoard.getColumns();
+        if (rootBoard.getEmptyIndex() < 0) {
+            throw new IllegalArgumentException("No empty field");
+        }
+        moveOrder = MoveOrder.compile(parameter);
+        visited = new StripedStateMap();
+        long solvedState = Board.getSolvedState(rows, columns);
+        visitedStates = 0;
+        processedStates = 0;
+        maxRecursionDepth = 0;
+        peakFrontierSize = 0;
+        peakVisitedSize = 0;
+        long startTime = System.nanoTime();
+        long startAllocation = AllocationCounter.allThreads();
+        budget = limits.start(BoardAnalysis.of(rootBoard));
+        long[] layer = {rootBoard.getPackedState()};
+        visited.putMinimum(layer[0], CLAIM_MASK, DEPTH_SHIFT);
+        int depth = 0;
+        boolean found = false;
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            while (layer.length > 0 && !found) {
+                if (budget.exceedsNodeBudget(processedStates + layer.length) || budget.isInterrupted()) {
+                    break;
+                }
+                if (budget.exceedsMemory(estimateFootprint(layer.length))) {
+                    budget.stop(SolverOutcome.MEMORY_LIMIT);
+                    break;
+                }
+                maxRecursionDepth = Math.max(maxRecursionDepth, root.getDepth() + depth);
+                processedStates += layer.length;
+                long[] current = layer;
+                int nextDepth = ++depth;
+                layer = pool.invoke(ForkJoinTask.adapt(() -> expandLayer(current, nextDepth)));
+                found = budget.getOutcome() == null && visited.get(solvedState, -1) >= 0;
+                peakFrontierSize = Math.max(peakFrontierSize, layer.length);
+            }
+            outcome = found || rootBoard.getPackedState() == solvedState ? SolverOutcome.SOLVED
+                    : budget.getOutcome() != null ? budget.getOutcome() : SolverOutcome.EXHAUSTED;
+        } catch (OutOfMemoryError e) {
+            found = false;
+            outcome = SolverOutcome.OUT_OF_MEMORY;
+        } finally {
+            pool.shutdown();
+        }
+        List<Character> path = Collections.emptyList();
+        solutionLength = -1;
+        if (outcome == SolverOutcome.SOLVED) {
+            path = new ArrayList<>(root.getPath());
+            path.addAll(getPath(solvedState));
+            solutionLength = path.size();
+        }
+        visitedStates += visited.size();
+        peakVisitedSize = Math.max(peakVisitedSize, visited.size());
+        visited = null;
+        computationTime = System.nanoTime() - startTime;
+        allocatedBytes = AllocationCounter.since(startAllocation, AllocationCounter.allThreads());
+        return path;
+    }
+
+    /**
+     * Estimates the footprint the search reaches while expanding a layer. Every state of the layer is assumed to
+     * have a new child for every move except the one back to its parent; the new states are stored in the visited
+     * map and, on the way to the next layer, in the published chunks, the sorted claims and the next layer.
+     *
+     * @param layerLength The number of states in the layer.
+     * @return The estimated footprint in bytes.
+     */
+    private long estimateFootprint(int layerLength) {
+        long newStates = (long) layerLength * (moveOrder.length - 1);
+        return (visited.size() + newStates) * LongLongHashMap.BYTES_PER_ENTRY
+                + (layerLength + 3 * newStates) * Long.BYTES;
+    }
+
+    /**
+     * Expands a layer in parallel and builds the next layer in sequential BFS order.
+     *
+     * @param layer The states of the current layer in sequential BFS order.
+     * @param depth The depth of the next layer.
+     * @return The states of the next layer.
+     */
+    private long[] expandLayer(long[] layer, int depth) {
+        ConcurrentLinkedQueue<long[]> discovered = new ConcurrentLinkedQueue<>();
+        new ExpandTask(layer, 0, layer.length, (long) depth << DEPTH_SHIFT, discovered).invoke();
+        long[][] chunks = discovered.toArray(new long[0][]);
+        Arrays.stream(chunks).parallel().forEach(chunk -> {
+            for (int i = 0; i < chunk.length; i++) {
+                chunk[i] = visited.get(chunk[i], -1) & CLAIM_MASK;
+            }
+        });
+        int size = 0;
+        for (long[] chunk : chunks) {
+            size += chunk.length;
+        }
+        long[] claims = new long[size];
+        int offset = 0;
+        for (long[] chunk : chunks) {
+            System.arraycopy(chunk, 0, claims, offset, chunk.length);
+            offset += chunk.length;
+        }
+        Arrays.parallelSort(claims);
+        long[] next = new long[size];
+        Arrays.parallelSetAll(next, i -> getChild(layer, claims[i]));
+        return next;
+    }
+
+    /**
+     * Recomputes the child a claim refers to.
+     *
+     * @param layer The states of the layer the claim was made from.
+     * @param claim The position of the parent in the layer and the rank of the move.
+     * @return The packed child state.
+     */
+    private long getChild(long[] layer, long claim) {
+        long parent = layer[(int) (claim >>> MOVE_BITS)];
+        int emptyIndex = PackedBoard.findEmptyIndex(parent, rows * columns);
+        int target = PackedBoard.getMoveTarget(emptyIndex, moveOrder[(int) (claim & 3)], rows, columns);
+        return PackedBoard.slideTile(parent, target, emptyIndex);
+    }
+
+    /**
+     * Rebuilds the path to a state from the winning claims.
+     *
+     * @param state The packed state at the end of the path.
+     * @return The moves from the initial board to the state.
+     */
+    private List<Character> getPath(long state) {
+        List<Character> path = new ArrayList<>();
+        int emptyIndex = PackedBoard.findEmptyIndex(state, rows * columns);
+        long claim = visited.get(state, -1) & CLAIM_MASK;
+        while (claim != CLAIM_MASK) {
+            char move = moveOrder[(int) (claim & 3)];
+            path.add(move);
+            int previousEmptyIndex = PackedBoard.getMoveTarget(emptyIndex, PackedBoard.getInverseMove(move),
+                    rows, columns);
+            state = PackedBoard.slideTile(state, previousEmptyIndex, emptyIndex);
+            emptyIndex = previousEmptyIndex;
+            claim = visited.get(state, -1) & CLAIM_MASK;
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * ExpandTask claims the children of a range of a layer, splitting the range until it is small enough.
+     * Every leaf publishes the states it was first to claim, and skips its range once a limit has been hit.
+     */
+    private final class ExpandTask extends RecursiveAction {
+        @Serial
+        private static final long serialVersionUID = 1L;
+        private final long[] layer;
+        private final int from;
+        private final int to;
+        private final long depthBits;
+        private final transient Queue<long[]> discovered;
+
+        /**
+         * Constructs an ExpandTask for a range of a layer.
+         *
+         * @param layer      The states of the current layer.
+         * @param from       The first index of the range, inclusive.
+         * @param to         The last index of the range, exclusive.
+         * @param depthBits  The depth of the next layer, shifted into place.
+         * @param discovered The queue the leaves publish new states to.
+         */
+        ExpandTask(long[] layer, int from, int to, long depthBits, Queue<long[]> discovered) {
+            this.layer = layer;
+            this.from = from;
+            this.to = to;
+            this.depthBits = depthBits;
+            this.discovered = discovered;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SPLIT_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ExpandTask(layer, from, middle, depthBits, discovered),
+                        new ExpandTask(layer, middle, to, depthBits, discovered));
+                return;
+            }
+            if (budget.isInterrupted()) {
+                return;
+            }
+            long[] found = new long[(to - from) * moveOrder.length];
+            int count = 0;
+            for (int i = from; i < to; i++) {
+                long state = layer[i];
+                int emptyIndex = PackedBoard.findEmptyIndex(state, rows * columns);
+                for (int rank = 0; rank < moveOrder.length; rank++) {
+                    int target = PackedBoard.getMoveTarget(emptyIndex, moveOrder[rank], rows, columns);
+                    if (target < 0) {
+                        continue;
+                    }
+                    long child = PackedBoard.slideTile(state, target, emptyIndex);
+                    long claim = ((long) i << MOVE_BITS) | rank;
+                    if (visited.putMinimum(child, depthBits | claim, DEPTH_SHIFT)) {
+                        found[count++] = child;
+                    }
+                }
+            }
+            discovered.add(Arrays.copyOf(found, count));
+        }
+    }
+
+    /**
+     * Retrieves statistics about the solving process. The allocated bytes are counted over all threads, as the
+     * layers are expanded on the worker threads.
+     *
+     * @return The solution length, visited states, processed states, max recursion depth, computation time,
+     *         peak layer and visited map sizes, allocated bytes and outcome of the last search.
+     */
+    @Override
+    public SolverStats getStats() {
+        return new SolverStats(solutionLength, visitedStates, processedStates, maxRecursionDepth, computationTime,
+                peakFrontierSize, peakVisitedSize, allocatedBytes, outcome);
+    }
+}
@@ -0,0 +1,87 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import java.text.DecimalFormat;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SolverStats holds the figures a solver reports about its last search.
+ *
+ * @param solutionLength   The number of moves of the solution, or -1 if no solution was found.
+ * @param visitedStates    The number of states generated.
+ * @param processedStates  The number of states expanded.
+ * @param maxDepth         The greatest depth reached.
+ * @param elapsedNanos     The duration of the search, in nanoseconds.
+ * @param peakFrontierSize The largest number of states waiting to be expanded at once.
+ * @param peakVisitedSize  The largest number of states held for duplicate detection at once.
+ * @param allocatedBytes   The number of bytes allocated on the heap during the search, or -1 if the JVM cannot
+ *                         measure it.
+ * @param outcome          The way the search ended.
+ * @param details          Additional figures of a specific solver, by label, in display order.
+ */
+public record SolverStats(int solutionLength, long visitedStates, long processedStates, int maxDepth,
+                          long elapsedNanos, long peakFrontierSize, long peakVisitedSize, long allocatedBytes,
+                          SolverOutcome outcome, Map<String, String> details) {
+
+    /**
+     * Constructs a SolverStats, keeping an unmodifiable copy of the details.
+     */
+    public SolverStats {
+        details = Collections.unmodifiableMap(new LinkedHashMap<>(details));
+    }
+
+    /**
+     * Constructs a SolverStats without additional figures.
+     */
+    public SolverStats(int solutionLength, long visitedStates, long processedStates, int maxDepth,
+                       long elapsedNanos, long peakFrontierSize, long peakVisitedSize, long allocatedBytes,
+                       SolverOutcome outcome) {
+        this(solutionLength, visitedStates, processedStates, maxDepth, elapsedNanos, peakFrontierSize,
+                peakVisitedSize, allocatedBytes, outcome, Map.of());
+    }
+
+    /**
+     * Gets the duration of the search in milliseconds.
+     *
+     * @return The elapsed time in milliseconds.
+     */
+    public double elapsedMillis() {
+        return elapsedNanos / 1_000_000.0;
+    }
+
+    /**
+     * Gets the number of states expanded per second.
+     *
+     * @return The expansion rate, or 0 if no time has elapsed.
+     */
+    public double nodesPerSecond() {
+        return elapsedNanos == 0 ? 0 : processedStates * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * Renders the statistics as one labelled figure per line.
+     *
+     * @return A string containing the solution length, visited states, processed states, max recursion depth,
+     *         computation time, nodes per second, peak sizes, allocated bytes, outcome and the additional
+     *         figures.
+     */
+    @Override
+    public String toString() {
+        DecimalFormat decimalFormat = new DecimalFormat("#.###");
+        StringBuilder builder = new StringBuilder()
+                .append("Solution length: ").append(solutionLength).append('\n')
+                .append("Visited states: ").append(visitedStates).append('\n')
+                .append("Processed states: ").append(processedStates).append('\n')
+                .append("Max recursion depth: ").append(maxDepth).append('\n')
+                .append("Computation time (ms): ").append(decimalFormat.format(elapsedMillis())).append('\n')
+                .append("Nodes per second: ").append(new DecimalFormat("#").format(nodesPerSecond())).append('\n')
+                .append("Peak frontier size: ").append(peakFrontierSize).append('\n')
+                .append("Peak visited-set size: ").append(peakVisitedSize).append('\n')
+                .append("Allocated bytes: ").append(allocatedBytes < 0 ? "n/a" : String.valueOf(allocatedBytes))
+                .append('\n')
+                .append("Outcome: ").append(outcome);
+        details.forEach((label, value) -> builder.append('\n').append(label).append(": ").append(value));
+        return builder.toString();
+    }
+}
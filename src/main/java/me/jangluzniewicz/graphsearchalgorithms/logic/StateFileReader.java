@@ -0,0 +1,99 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * StateFileReader streams the states of a file written by {@link StateFileWriter} in ascending order.
+ */
+final class StateFileReader implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private long current;
+    private boolean exhausted;
+
+    /**
+     * Opens a state file.
+     *
+     * @param path The file to read.
+     * @throws IOException if the file cannot be opened.
+     */
+    StateFileReader(Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        buffer.flip();
+    }
+
+    /**
+     * Moves to the next state.
+     *
+     * @return True if there is a next state, false if the file is exhausted.
+     * @throws IOException if the file cannot be read or ends in the middle of a state.
+     */
+    boolean advance() throws IOException {
+        if (exhausted || !fill()) {
+            exhausted = true;
+            return false;
+        }
+        long delta = 0;
+        int shift = 0;
+        byte next;
+        do {
+            if (!fill()) {
+                throw new IOException("Truncated state file");
+            }
+            next = buffer.get();
+            delta |= (long) (next & 0x7F) << shift;
+            shift += 7;
+        } while (next < 0);
+        current += delta;
+        return true;
+    }
+
+    /**
+     * Gets the state the reader is positioned at.
+     *
+     * @return The current packed board state.
+     */
+    long current() {
+        return current;
+    }
+
+    /**
+     * Checks if the reader has moved past the last state.
+     *
+     * @return True if the file is exhausted, false otherwise.
+     */
+    boolean isExhausted() {
+        return exhausted;
+    }
+
+    /**
+     * Makes sure the buffer holds at least one byte.
+     *
+     * @return True if a byte is available, false at the end of the file.
+     * @throws IOException if the file cannot be read.
+     */
+    private boolean fill() throws IOException {
+        if (buffer.hasRemaining()) {
+            return true;
+        }
+        buffer.clear();
+        int read;
+        do {
+            read = channel.read(buffer);
+        } while (read == 0);
+        buffer.flip();
+        return read > 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,91 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * StateFileWriter writes an ascending sequence of packed board states to a file. Every state is stored as the
+ * unsigned difference to the previous state in a variable-length encoding of seven bits per byte, so the dense
+ * sorted layers of a breadth-first search take about two bytes per state.
+ */
+final class StateFileWriter implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private long previous;
+    private long count;
+
+    /**
+     * Creates or truncates a state file.
+     *
+     * @param path The file to write.
+     * @throws IOException if the file cannot be opened.
+     */
+    StateFileWriter(Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Appends a state. A state equal to the previous one is skipped.
+     *
+     * @param state The packed board state, not less than the previous state.
+     * @throws IOException if the file cannot be written.
+     * @throws IllegalArgumentException if the state is less than the previous state.
+     */
+    void write(long state) throws IOException {
+        if (count > 0 && state <= previous) {
+            if (state == previous) {
+                return;
+            }
+            throw new IllegalArgumentException("States must be written in ascending order");
+        }
+        if (buffer.remaining() < 10) {
+            flush();
+        }
+        long delta = state - previous;
+        while ((delta & ~0x7FL) != 0) {
+            buffer.put((byte) ((delta & 0x7F) | 0x80));
+            delta >>>= 7;
+        }
+        buffer.put((byte) delta);
+        previous = state;
+        count++;
+    }
+
+    /**
+     * Gets the number of states written.
+     *
+     * @return The number of states.
+     */
+    long count() {
+        return count;
+    }
+
+    /**
+     * Writes the buffered bytes to the file.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
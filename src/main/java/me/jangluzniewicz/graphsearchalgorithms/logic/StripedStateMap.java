@@ -0,0 +1,85 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+/**
+ * StripedStateMap is a concurrent map from packed board states to {@code long} values. The states are spread over
+ * a fixed number of {@link LongLongHashMap} stripes by the high bits of their hash, and every stripe is guarded
+ * by its own lock, so threads only contend when they touch the same stripe.
+ */
+final class StripedStateMap {
+    private static final int STRIPE_BITS = 8;
+
+    private final LongLongHashMap[] stripes = new LongLongHashMap[1 << STRIPE_BITS];
+
+    /**
+     * Constructs an empty StripedStateMap.
+     */
+    StripedStateMap() {
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new LongLongHashMap();
+        }
+    }
+
+    /**
+     * Stores a value for a state if the state is absent, or if its value is in the same group and larger.
+     * Values are grouped by the bits above {@code groupShift}, so a smaller value only replaces a value of the
+     * same group.
+     *
+     * @param state      The packed board state.
+     * @param value      The non-negative value to store.
+     * @param groupShift The number of low bits that do not belong to the group.
+     * @return True if the state was absent, false otherwise.
+     */
+    boolean putMinimum(long state, long value, int groupShift) {
+        LongLongHashMap stripe = stripe(state);
+        synchronized (stripe) {
+            long existing = stripe.get(state, -1);
+            if (existing < 0) {
+                stripe.put(state, value);
+                return true;
+            }
+            if (value < existing && existing >>> groupShift == value >>> groupShift) {
+                stripe.put(state, value);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Gets the value stored for a state.
+     *
+     * @param state        The packed board state.
+     * @param defaultValue The value to return if the state is absent.
+     * @return The stored value, or the default value if the state is absent.
+     */
+    long get(long state, long defaultValue) {
+        LongLongHashMap stripe = stripe(state);
+        synchronized (stripe) {
+            return stripe.get(state, defaultValue);
+        }
+    }
+
+    /**
+     * Gets the number of states in the map.
+     *
+     * @return The number of states.
+     */
+    int size() {
+        int size = 0;
+        for (LongLongHashMap stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Selects the stripe of a state.
+     *
+     * @param state The packed board state.
+     * @return The stripe holding the state.
+     */
+    private LongLongHashMap stripe(long state) {
+        return stripes[VisitedStateSet.mix(state) >>> (Integer.SIZE - STRIPE_BITS)];
+    }
+}
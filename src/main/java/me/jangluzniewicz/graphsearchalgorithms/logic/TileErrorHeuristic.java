@@ -0,0 +1,67 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.PackedBoard;
+
+/**
+ * TileErrorHeuristic is the base of heuristics that sum an independent error per tile. The errors of every
+ * tile at every field are precomputed for one board size, and because a move slides exactly one tile, the
+ * estimate of a successor is derived from its predecessor by re-scoring only that tile.
+ */
+abstract class TileErrorHeuristic implements HeuristicInterface {
+    private final int size;
+    private final int[][] errors;
+
+    /**
+     * Constructs a TileErrorHeuristic and fills its error table.
+     *
+     * @param rows    The number of rows on the board.
+     * @param columns The number of columns on the board.
+     */
+    TileErrorHeuristic(int rows, int columns) {
+        size = rows * columns;
+        errors = new int[size][size];
+        for (int value = 1; value < size; value++) {
+            int goalRow = (value - 1) / columns;
+            int goalColumn = (value - 1) % columns;
+            for (int index = 0; index < size; index++) {
+                errors[value][index] = tileError(Math.abs(index / columns - goalRow),
+                        Math.abs(index % columns - goalColumn));
+            }
+        }
+    }
+
+    /**
+     * Calculates the error of a tile from its distance to its goal field.
+     *
+     * @param rowDistance    The number of rows between the tile and its goal field.
+     * @param columnDistance The number of columns between the tile and its goal field.
+     * @return The error of the tile.
+     */
+    abstract int tileError(int rowDistance, int columnDistance);
+
+    @Override
+    public int estimate(long fields) {
+        int error = 0;
+        for (int index = 0; index < size; index++) {
+            error += errors[PackedBoard.getFieldValue(fields, index)][index];
+        }
+        return error;
+    }
+
+    @Override
+    public int update(long fields, int estimate, int value, int from, int to) {
+        return estimate + delta(value, from, to);
+    }
+
+    /**
+     * Calculates the change of the error when a tile slides between two fields.
+     *
+     * @param value The value of the tile.
+     * @param from  The index of the field the tile leaves.
+     * @param to    The index of the field the tile enters.
+     * @return The error after the slide minus the error before it.
+     */
+    int delta(int value, int from, int to) {
+        return errors[value][to] - errors[value][from];
+    }
+}
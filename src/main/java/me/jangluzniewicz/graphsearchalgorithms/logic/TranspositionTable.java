@@ -0,0 +1,197 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.BoardSymmetry;
+
+import java.text.DecimalFormat;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * TranspositionTable remembers the shallowest depth at which a depth-first search has reached each state, so a
+ * state that comes back at the same or a greater depth can be pruned: its subtree has already been searched with
+ * at least as many moves left. A state that comes back shallower is searched again.
+ * <p>
+ * The table has a fixed number of slots in buckets of two, and a state can only live in its own bucket. When the
+ * bucket is full the deeper of the two entries is replaced, since a shallow entry prunes a larger subtree. Entries
+ * carry the generation they were written in, so {@link #clear()} takes constant time and an iterative-deepening
+ * search can start every iteration with an empty table.
+ * <p>
+ * On square boards a state and its reflection about the main diagonal share an entry. Both are equally far from
+ * the solved board, so a reflection searched from a depth prunes the state at that depth or deeper.
+ */
+final class TranspositionTable {
+    /**
+     * The bytes per slot: the packed state and the generation and depth packed into an {@code int}.
+     */
+    static final long BYTES_PER_ENTRY = Long.BYTES + Integer.BYTES;
+    /**
+     * The smallest number of slots a table has.
+     */
+    static final int MIN_CAPACITY = 1 << 10;
+    /**
+     * The greatest depth an entry can hold.
+     */
+    static final int MAX_DEPTH = 255;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final int DEPTH_BITS = 8;
+    private static final int DEPTH_MASK = MAX_DEPTH;
+    private static final int MAX_GENERATION = (1 << (Integer.SIZE - DEPTH_BITS - 1)) - 1;
+
+    private final long[] keys;
+    private final int[] entries;
+    private final int mask;
+    private final int side;
+    private int generation = 1;
+    private int size;
+    private long probes;
+    private long hits;
+    private long prunes;
+    private long replacements;
+
+    /**
+     * Constructs a TranspositionTable.
+     *
+     * @param capacity The number of slots, rounded down to a power of two and to at least {@link #MIN_CAPACITY}.
+     * @param rows     The number of rows on the board.
+     * @param columns  The number of columns on the board.
+     */
+    TranspositionTable(int capacity, int rows, int columns) {
+        int slots = Integer.highestOneBit(Math.clamp(capacity, MIN_CAPACITY, MAX_CAPACITY));
+        keys = new long[slots];
+        entries = new int[slots];
+        mask = slots - 1;
+        side = BoardSymmetry.isSymmetric(rows, columns) ? rows : 0;
+    }
+
+    /**
+     * Computes the number of slots that fit into a memory budget.
+     *
+     * @param maxCapacity    The largest number of slots wanted.
+     * @param maxMemoryBytes The memory budget in bytes.
+     * @return The number of slots, or 0 if not even {@link #MIN_CAPACITY} slots fit.
+     */
+    static int capacityWithin(int maxCapacity, long maxMemoryBytes) {
+        long capacity = Math.min(maxCapacity, maxMemoryBytes / BYTES_PER_ENTRY);
+        return capacity < MIN_CAPACITY ? 0 : (int) capacity;
+    }
+
+    /**
+     * Records that the search reached a state and decides whether to prune it.
+     *
+     * @param state The packed board state.
+     * @param depth The depth at which the state was reached, from 0 to {@link #MAX_DEPTH}.
+     * @return True if the state was reached before at the same or a smaller depth, false if it must be searched.
+     */
+    boolean visit(long state, int depth) {
+        if (side > 0) {
+            state = Math.min(state, BoardSymmetry.transpose(state, side));
+        }
+        probes++;
+        int first = VisitedStateSet.mix(state) & mask & ~1;
+        int entry = (generation << DEPTH_BITS) | depth;
+        for (int slot = first; slot <= first + 1; slot++) {
+            if (keys[slot] == state && entries[slot] >>> DEPTH_BITS == generation) {
+                hits++;
+                if ((entries[slot] & DEPTH_MASK) <= depth) {
+                    prunes++;
+                    return true;
+                }
+                entries[slot] = entry;
+                return false;
+            }
+        }
+        int slot;
+        if (entries[first] >>> DEPTH_BITS != generation) {
+            slot = first;
+            size++;
+        } else if (entries[first + 1] >>> DEPTH_BITS != generation) {
+            slot = first + 1;
+            size++;
+        } else {
+            slot = (entries[first] & DEPTH_MASK) >= (entries[first + 1] & DEPTH_MASK) ? first : first + 1;
+            replacements++;
+        }
+        keys[slot] = state;
+        entries[slot] = entry;
+        return false;
+    }
+
+    /**
+     * Empties the table by starting a new generation. The counters keep running.
+     */
+    void clear() {
+        if (generation == MAX_GENERATION) {
+            Arrays.fill(entries, 0);
+            generation = 0;
+        }
+        generation++;
+        size = 0;
+    }
+
+    /**
+     * Gets the number of slots of the table.
+     *
+     * @return The capacity.
+     */
+    int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * Gets the number of states held in the current generation.
+     *
+     * @return The number of occupied slots.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of states looked up.
+     *
+     * @return The number of lookups.
+     */
+    long getProbes() {
+        return probes;
+    }
+
+    /**
+     * Gets the number of lookups that found their state.
+     *
+     * @return The number of hits.
+     */
+    long getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of lookups that pruned their state.
+     *
+     * @return The number of prunes.
+     */
+    long getPrunes() {
+        return prunes;
+    }
+
+    /**
+     * Gets the number of entries overwritten by other states.
+     *
+     * @return The number of replacements.
+     */
+    long getReplacements() {
+        return replacements;
+    }
+
+    /**
+     * Describes the lookups as additional figures of the solver statistics.
+     *
+     * @param details The figures to add to, by label.
+     */
+    void addDetails(Map<String, String> details) {
+        DecimalFormat decimalFormat = new DecimalFormat("#.###");
+        details.put("Transposition table slots", String.valueOf(keys.length));
+        details.put("Transposition hit rate", decimalFormat.format(probes == 0 ? 0 : (double) hits / probes));
+        details.put("Transposition prune rate", decimalFormat.format(probes == 0 ? 0 : (double) prunes / probes));
+        details.put("Transposition replacements", String.valueOf(replacements));
+    }
+}
@@ -0,0 +1,272 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.BoardSymmetry;
+import me.jangluzniewicz.graphsearchalgorithms.model.PackedBoard;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * VisitedStateSet is an open-addressing hash set of packed board states. Next to every state it keeps the move
+ * that first reached it, which is enough to rebuild a path without keeping the search nodes.
+ * <p>
+ * Keys live in a primitive {@code long[]} with linear probing, so an entry costs nine bytes plus the slack
+ * allowed by the load factor.
+ * <p>
+ * A set created with {@link #canonical(int, int)} stores a state of a square board and its reflection about the
+ * main diagonal as one entry, keyed by the smaller of the two, which roughly halves the set in a search of the
+ * whole state space. Moves are stored in the orientation of the key and are reflected back on lookup, and a
+ * rebuilt path that ends at the reflection of the start state is reflected as a whole.
+ */
+final class VisitedStateSet {
+    /**
+     * The move stored with the start state of a search.
+     */
+    static final char ROOT_MOVE = 'N';
+    /**
+     * The estimated bytes per state at the default load factor: half-full tables right after a resize, plus the
+     * old tables while the resize copies them.
+     */
+    static final long BYTES_PER_STATE = 36;
+    private static final int DEFAULT_CAPACITY = 1 << 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final long EMPTY = 0L;
+
+    private final float loadFactor;
+    private final int side;
+    private long rootState;
+    private long[] keys;
+    private byte[] moves;
+    private int mask;
+    private int resizeThreshold;
+    private int size;
+    private boolean containsEmptyKey;
+    private byte emptyKeyMove;
+
+    /**
+     * Constructs a VisitedStateSet with the default capacity and load factor.
+     */
+    VisitedStateSet() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs a VisitedStateSet with the specified initial capacity and load factor.
+     *
+     * @param expectedSize The number of states the set should hold before it has to grow.
+     * @param loadFactor   The fraction of slots that may be used before the table doubles.
+     * @throws IllegalArgumentException if the load factor is not between 0 and 1.
+     */
+    VisitedStateSet(int expectedSize, float loadFactor) {
+        this(expectedSize, loadFactor, 0);
+    }
+
+    /**
+     * Constructs a VisitedStateSet with the specified initial capacity, load factor and symmetry.
+     *
+     * @param expectedSize The number of states the set should hold before it has to grow.
+     * @param loadFactor   The fraction of slots that may be used before the table doubles.
+     * @param side         The side of the square board whose reflected states are merged, or 0 to keep every
+     *                     state apart.
+     * @throws IllegalArgumentException if the load factor is not between 0 and 1.
+     */
+    private VisitedStateSet(int expectedSize, float loadFactor, int side) {
+        if (loadFactor <= 0 || loadFactor >= 1) {
+            throw new IllegalArgumentException("Load factor must be between 0 and 1");
+        }
+        this.loadFactor = loadFactor;
+        this.side = side;
+        int capacity = Integer.highestOneBit(Math.max(2, (int) Math.ceil(expectedSize / loadFactor)) - 1) << 1;
+        allocate(Math.min(capacity, MAXIMUM_CAPACITY));
+    }
+
+    /**
+     * Creates a VisitedStateSet with the default capacity and load factor that merges every state with its
+     * reflection when the board is square.
+     *
+     * @param rows    The number of rows on the board.
+     * @param columns The number of columns on the board.
+     * @return The new set, which keeps every state apart if the board is not square.
+     */
+    static VisitedStateSet canonical(int rows, int columns) {
+        return new VisitedStateSet(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR,
+                BoardSymmetry.isSymmetric(rows, columns) ? rows : 0);
+    }
+
+    /**
+     * Adds a state to the set.
+     *
+     * @param state The packed board state.
+     * @param move  The move that reached the state.
+     * @return True if neither the state nor, in a canonical set, its reflection was in the set yet, false
+     *         otherwise.
+     */
+    boolean add(long state, char move) {
+        if (move == ROOT_MOVE) {
+            rootState = state;
+        }
+        if (side > 0) {
+            long transposed = BoardSymmetry.transpose(state, side);
+            if (transposed < state) {
+                state = transposed;
+                move = move == ROOT_MOVE ? move : BoardSymmetry.transposeMove(move);
+            }
+        }
+        if (state == EMPTY) {
+            if (containsEmptyKey) {
+                return false;
+            }
+            containsEmptyKey = true;
+            emptyKeyMove = (byte) move;
+            size++;
+            return true;
+        }
+        int slot = mix(state) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == state) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = state;
+        moves[slot] = (byte) move;
+        if (++size > resizeThreshold) {
+            grow();
+        }
+        return true;
+    }
+
+    /**
+     * Checks if a state is in the set.
+     *
+     * @param state The packed board state.
+     * @return True if the state is in the set, false otherwise.
+     */
+    boolean contains(long state) {
+        return getMove(state) != 0;
+    }
+
+    /**
+     * Gets the move stored with a state.
+     *
+     * @param state The packed board state.
+     * @return The move that first reached the state, or 0 if the state is not in the set.
+     */
+    char getMove(long state) {
+        if (side > 0) {
+            long transposed = BoardSymmetry.transpose(state, side);
+            if (transposed < state) {
+                char move = getStoredMove(transposed);
+                return move == 0 || move == ROOT_MOVE ? move : BoardSymmetry.transposeMove(move);
+            }
+        }
+        return getStoredMove(state);
+    }
+
+    /**
+     * Gets the move stored with a key.
+     *
+     * @param state The packed board state used as the key.
+     * @return The stored move, or 0 if the key is not in the set.
+     */
+    private char getStoredMove(long state) {
+        if (state == EMPTY) {
+            return containsEmptyKey ? (char) emptyKeyMove : 0;
+        }
+        int slot = mix(state) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == state) {
+                return (char) moves[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return 0;
+    }
+
+    /**
+     * Rebuilds the path from the start state to the specified state by undoing the stored moves.
+     *
+     * @param state   The packed board state at the end of the path.
+     * @param rows    The number of rows on the board.
+     * @param columns The number of columns on the board.
+     * @return The list of moves leading from the start state to the specified state, or in a canonical set
+     *         possibly to its reflection.
+     */
+    List<Character> getPath(long state, int rows, int columns) {
+        List<Character> path = new ArrayList<>();
+        int emptyIndex = PackedBoard.findEmptyIndex(state, rows * columns);
+        char move = getMove(state);
+        while (move != ROOT_MOVE) {
+            path.add(move);
+            int previousEmptyIndex = PackedBoard.getMoveTarget(emptyIndex, PackedBoard.getInverseMove(move),
+                    rows, columns);
+            state = PackedBoard.slideTile(state, previousEmptyIndex, emptyIndex);
+            emptyIndex = previousEmptyIndex;
+            move = getMove(state);
+        }
+        if (state != rootState) {
+            path.replaceAll(BoardSymmetry::transposeMove);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * Gets the number of states in the set.
+     *
+     * @return The number of states.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Doubles the table and rehashes every state.
+     *
+     * @throws IllegalStateException if the table cannot grow any further.
+     */
+    private void grow() {
+        if (keys.length >= MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("Visited set is full");
+        }
+        long[] oldKeys = keys;
+        byte[] oldMoves = moves;
+        allocate(oldKeys.length << 1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long state = oldKeys[i];
+            if (state != EMPTY) {
+                int slot = mix(state) & mask;
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = state;
+                moves[slot] = oldMoves[i];
+            }
+        }
+    }
+
+    /**
+     * Allocates empty tables with the specified capacity.
+     *
+     * @param capacity The number of slots, a power of two.
+     */
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        moves = new byte[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) Math.min(capacity * (double) loadFactor, capacity - 1);
+    }
+
+    /**
+     * Spreads the bits of a packed state over the hash.
+     *
+     * @param state The packed board state.
+     * @return The mixed hash.
+     */
+    static int mix(long state) {
+        long hash = state * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+}
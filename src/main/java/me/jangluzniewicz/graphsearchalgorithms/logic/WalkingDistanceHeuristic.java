@@ -0,0 +1,50 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.PackedBoard;
+
+/**
+ * WalkingDistanceHeuristic sums the vertical and horizontal walking distances of a board. The vertical walking
+ * distance is the number of vertical moves needed when only the goal row of every tile matters, and likewise
+ * for columns, so both parts are admissible and so is their sum. It dominates the Manhattan distance.
+ */
+public class WalkingDistanceHeuristic implements HeuristicInterface {
+    private final int size;
+    private final WalkingDistanceTable verticalTable;
+    private final WalkingDistanceTable horizontalTable;
+    private final long[] verticalUnits;
+    private final long[] horizontalUnits;
+
+    /**
+     * Constructs a WalkingDistanceHeuristic for the specified board size. The distance tables are built on first
+     * use of a board size and shared afterwards.
+     *
+     * @param rows    The number of rows on the board.
+     * @param columns The number of columns on the board.
+     * @throws IllegalArgumentException if an arrangement of the board does not fit in a single word.
+     */
+    public WalkingDistanceHeuristic(int rows, int columns) {
+        size = rows * columns;
+        verticalTable = WalkingDistanceTable.getTable(rows, columns);
+        horizontalTable = WalkingDistanceTable.getTable(columns, rows);
+        verticalUnits = new long[size * size];
+        horizontalUnits = new long[size * size];
+        for (int value = 1; value < size; value++) {
+            for (int index = 0; index < size; index++) {
+                verticalUnits[value * size + index] = verticalTable.unit(index / columns, (value - 1) / columns);
+                horizontalUnits[value * size + index] = horizontalTable.unit(index % columns, (value - 1) % columns);
+            }
+        }
+    }
+
+    @Override
+    public int estimate(long fields) {
+        long verticalCode = 0;
+        long horizontalCode = 0;
+        for (int index = 0; index < size; index++) {
+            int value = PackedBoard.getFieldValue(fields, index);
+            verticalCode += verticalUnits[value * size + index];
+            horizontalCode += horizontalUnits[value * size + index];
+        }
+        return verticalTable.getDistance(verticalCode) + horizontalTable.getDistance(horizontalCode);
+    }
+}
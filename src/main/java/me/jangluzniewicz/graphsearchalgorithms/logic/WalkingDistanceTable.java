@@ -0,0 +1,167 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * WalkingDistanceTable holds the walking distance of every arrangement of tiles over the lines of a board in
+ * one direction. An arrangement only records how many tiles of each goal line sit in each line, and a move
+ * swaps the empty field with a tile of a neighbouring line. The distances are found by a breadth-first search
+ * from the solved arrangement, once per line count and line width, and cached for the lifetime of the JVM.
+ */
+final class WalkingDistanceTable {
+    private static final Map<Integer, WalkingDistanceTable> CACHE = new ConcurrentHashMap<>();
+
+    private final int lines;
+    private final int width;
+    private final int bitsPerCount;
+    private final LongLongHashMap distances;
+
+    /**
+     * Constructs a WalkingDistanceTable and runs the breadth-first search that fills it.
+     *
+     * @param lines The number of lines in the direction of the table.
+     * @param width The number of fields in every line.
+     */
+    private WalkingDistanceTable(int lines, int width) {
+        this.lines = lines;
+        this.width = width;
+        this.bitsPerCount = 32 - Integer.numberOfLeadingZeros(width);
+        if (lines * lines * bitsPerCount > Long.SIZE) {
+            throw new IllegalArgumentException("Walking distance is not supported for this board size");
+        }
+        this.distances = new LongLongHashMap();
+        build();
+    }
+
+    /**
+     * Gets the table for the specified line count and width, building it on first use.
+     *
+     * @param lines The number of lines in the direction of the table.
+     * @param width The number of fields in every line.
+     * @return The shared table.
+     */
+    static WalkingDistanceTable getTable(int lines, int width) {
+        return CACHE.computeIfAbsent(lines * (Long.SIZE + 1) + width, key -> new WalkingDistanceTable(lines, width));
+    }
+
+    /**
+     * Encodes the number of tiles of a goal line that sit in a line as a single increment of the arrangement code.
+     *
+     * @param line     The line the tiles sit in.
+     * @param goalLine The goal line of the tiles.
+     * @return The amount the code changes by when one such tile is added.
+     */
+    long unit(int line, int goalLine) {
+        return 1L << ((line * lines + goalLine) * bitsPerCount);
+    }
+
+    /**
+     * Gets the walking distance of an arrangement.
+     *
+     * @param code The arrangement code, the sum of {@link #unit(int, int)} over all tiles.
+     * @return The walking distance of the arrangement.
+     * @throws IllegalArgumentException if the arrangement cannot be reached from the solved arrangement.
+     */
+    int getDistance(long code) {
+        long distance = distances.get(code, -1);
+        if (distance < 0) {
+            throw new IllegalArgumentException("Invalid arrangement");
+        }
+        return (int) distance;
+    }
+
+    /**
+     * Gets the number of arrangements in the table.
+     *
+     * @return The number of arrangements.
+     */
+    int size() {
+        return distances.size();
+    }
+
+    /**
+     * Runs a breadth-first search over all arrangements reachable from the solved arrangement.
+     */
+    private void build() {
+        int[][] counts = new int[lines][lines];
+        for (int line = 0; line < lines; line++) {
+            counts[line][line] = line == lines - 1 ? width - 1 : width;
+        }
+        long start = encode(counts);
+        LongRingBuffer queue = new LongRingBuffer();
+        distances.put(start, 0);
+        queue.addLast(start);
+        while (!queue.isEmpty()) {
+            long code = queue.pollFirst();
+            long distance = distances.get(code, -1);
+            decode(code, counts);
+            int emptyLine = findEmptyLine(counts);
+            for (int neighbour = emptyLine - 1; neighbour <= emptyLine + 1; neighbour += 2) {
+                if (neighbour < 0 || neighbour >= lines) {
+                    continue;
+                }
+                for (int goalLine = 0; goalLine < lines; goalLine++) {
+                    if (counts[neighbour][goalLine] == 0) {
+                        continue;
+                    }
+                    long next = code - unit(neighbour, goalLine) + unit(emptyLine, goalLine);
+                    if (!distances.containsKey(next)) {
+                        distances.put(next, distance + 1);
+                        queue.addLast(next);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the line holding the empty field, which is the only line with fewer tiles than fields.
+     *
+     * @param counts The arrangement.
+     * @return The index of the line holding the empty field.
+     */
+    private int findEmptyLine(int[][] counts) {
+        for (int line = 0; line < lines; line++) {
+            int tiles = 0;
+            for (int goalLine = 0; goalLine < lines; goalLine++) {
+                tiles += counts[line][goalLine];
+            }
+            if (tiles < width) {
+                return line;
+            }
+        }
+        throw new IllegalStateException("No empty field");
+    }
+
+    /**
+     * Encodes an arrangement into its code.
+     *
+     * @param counts The arrangement.
+     * @return The arrangement code.
+     */
+    private long encode(int[][] counts) {
+        long code = 0;
+        for (int line = 0; line < lines; line++) {
+            for (int goalLine = 0; goalLine < lines; goalLine++) {
+                code += counts[line][goalLine] * unit(line, goalLine);
+            }
+        }
+        return code;
+    }
+
+    /**
+     * Decodes an arrangement code.
+     *
+     * @param code   The arrangement code.
+     * @param counts The array receiving the arrangement.
+     */
+    private void decode(long code, int[][] counts) {
+        long mask = (1L << bitsPerCount) - 1;
+        for (int line = 0; line < lines; line++) {
+            for (int goalLine = 0; goalLine < lines; goalLine++) {
+                counts[line][goalLine] = (int) ((code >>> ((line * lines + goalLine) * bitsPerCount)) & mask);
+            }
+        }
+    }
+}
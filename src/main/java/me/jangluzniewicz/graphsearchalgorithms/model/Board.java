@@ -2,21 +2,44 @@ package me.jangluzniewicz.graphsearchalgorithms.model;
 
 import me.jangluzniewicz.graphsearchalgorithms.logic.BoardControllerInterface;
 import me.jangluzniewicz.graphsearchalgorithms.logic.BoardValidatorInterface;
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Represents a board in a 15 puzzle with a grid of fields.
+ * <p>
+ * The fields are packed into a single {@code long}, four bits per field in row-major order, so a board
+ * can hold at most 16 fields with values from 0 to 15. The index of the empty field is cached.
  */
 public class Board implements Cloneable {
-    private final List<Field> fields;
+    /**
+     * The maximum number of fields a board can hold.
+     */
+    public static final int MAX_FIELDS = 16;
+    private static final int BITS_PER_FIELD = 4;
+    private static final long FIELD_MASK = 0xFL;
+    private static final long[][] SOLVED_STATES = new long[MAX_FIELDS + 1][MAX_FIELDS + 1];
+
+    static {
+        for (int rows = 1; rows <= MAX_FIELDS; rows++) {
+            for (int columns = 1; rows * columns <= MAX_FIELDS; columns++) {
+                long state = 0;
+                for (int i = 0; i < rows * columns - 1; i++) {
+                    state |= (long) (i + 1) << (i * BITS_PER_FIELD);
+                }
+                SOLVED_STATES[rows][columns] = state;
+            }
+        }
+    }
+
+    private long fields;
+    private int emptyIndex;
     BoardControllerInterface boardController;
     BoardValidatorInterface boardValidator;
     private final int rows;
     private final int columns;
+    private final MoveTable moveTable;
 
     /**
      * Constructs a Board with a 4x4 grid of fields.
@@ -27,15 +50,14 @@ public class Board implements Cloneable {
      */
     public Board(ArrayList<Field> fieldsArray, BoardControllerInterface boardController,
                  BoardValidatorInterface boardValidator) {
-        fields = new ArrayList<>();
         rows = 4;
         columns = 4;
         if (fieldsArray.size() != rows * columns) {
             throw new IllegalArgumentException("Board must have 16 fields");
         }
-        for (int i = 0; i < rows * columns; i++) {
-            fields.add(new Field(fieldsArray.get(i).getValue()));
-        }
+        fields = pack(fieldsArray);
+        emptyIndex = findEmptyIndex();
+        moveTable = MoveTable.of(rows, columns);
         this.boardController = boardController;
         this.boardValidator = boardValidator;
     }
@@ -48,22 +70,79 @@ public class Board implements Cloneable {
      * @param fieldsArray      An ArrayList of Field objects representing the fields on the board.
      * @param boardController  An implementation of BoardControllerInterface for handling board actions.
      * @param boardValidator   An implementation of BoardValidatorInterface for validating board state and moves.
+     * @throws IllegalArgumentException if the number of fields does not match the dimensions, the board has
+     *                                  more than 16 fields or a field value does not fit in four bits.
      */
     public Board(int rows, int columns, ArrayList<Field> fieldsArray, BoardControllerInterface boardController,
                  BoardValidatorInterface boardValidator) {
-        fields = new ArrayList<>();
         this.rows = rows;
         this.columns = columns;
         if (fieldsArray.size() != rows * columns) {
             throw new IllegalArgumentException("Incorrect number of fields");
         }
-        for (int i = 0; i < rows * columns; i++) {
-            fields.add(new Field(fieldsArray.get(i).getValue()));
+        if (rows < 1 || columns < 1 || rows * columns > MAX_FIELDS) {
+            throw new IllegalArgumentException("Board must have between 1 and 16 fields");
         }
+        fields = pack(fieldsArray);
+        emptyIndex = findEmptyIndex();
+        moveTable = MoveTable.of(rows, columns);
         this.boardController = boardController;
         this.boardValidator = boardValidator;
     }
 
+    /**
+     * Constructs a copy of a board from its packed fields.
+     */
+    private Board(int rows, int columns, long fields, int emptyIndex, MoveTable moveTable,
+                  BoardControllerInterface boardController, BoardValidatorInterface boardValidator) {
+        this.rows = rows;
+        this.columns = columns;
+        this.moveTable = moveTable;
+        this.fields = fields;
+        this.emptyIndex = emptyIndex;
+        this.boardController = boardController;
+        this.boardValidator = boardValidator;
+    }
+
+    /**
+     * Packs a list of fields into a single word, four bits per field.
+     *
+     * @param fieldsArray The fields to pack.
+     * @return The packed fields.
+     * @throws IllegalArgumentException if a field value does not fit in four bits.
+     */
+    private static long pack(List<Field> fieldsArray) {
+        long packed = 0;
+        for (int i = 0; i < fieldsArray.size(); i++) {
+            int value = fieldsArray.get(i).getValue();
+            if (value < 0 || value > FIELD_MASK) {
+                throw new IllegalArgumentException("Invalid field value");
+            }
+            packed |= (long) value << (i * BITS_PER_FIELD);
+        }
+        return packed;
+    }
+
+    /**
+     * Scans the packed fields for the first empty field.
+     *
+     * @return The index of the empty field, or -1 if there is none.
+     */
+    private int findEmptyIndex() {
+        return PackedBoard.findEmptyIndex(fields, rows * columns);
+    }
+
+    /**
+     * Gets the packed state of the solved board with the given dimensions.
+     *
+     * @param rows    The number of rows on the board.
+     * @param columns The number of columns on the board.
+     * @return The packed fields of the solved board.
+     */
+    public static long getSolvedState(int rows, int columns) {
+        return SOLVED_STATES[rows][columns];
+    }
+
     /**
      * Gets the value of a field at the specified position.
      *
@@ -76,7 +155,7 @@ public class Board implements Cloneable {
         if (x >= rows || y >= columns || x < 0 || y < 0) {
             throw new IllegalArgumentException("Invalid index");
         }
-        return fields.get(x * columns + y).getValue();
+        return PackedBoard.getFieldValue(fields, x * columns + y);
     }
 
     /**
@@ -85,13 +164,47 @@ public class Board implements Cloneable {
      * @param x     The row index of the field.
      * @param y     The column index of the field.
      * @param value The new value to set for the field.
-     * @throws IllegalArgumentException if the index is out of bounds.
+     * @throws IllegalArgumentException if the index is out of bounds or the value does not fit in four bits.
      */
     public void setFieldValue(int x, int y, int value) {
         if (x >= rows || y >= columns || x < 0 || y < 0) {
             throw new IllegalArgumentException("Invalid index");
         }
-        fields.get(x * columns + y).setValue(value);
+        if (value < 0 || value > FIELD_MASK) {
+            throw new IllegalArgumentException("Invalid field value");
+        }
+        fields = PackedBoard.setFieldValue(fields, x * columns + y, value);
+        emptyIndex = findEmptyIndex();
+    }
+
+    /**
+     * Slides the tile at one field into another field and leaves the first field empty.
+     * When {@code to} is the empty field this is a single move of the puzzle.
+     *
+     * @param from The index of the field holding the tile.
+     * @param to   The index of the field receiving the tile.
+     */
+    public void slideTile(int from, int to) {
+        fields = PackedBoard.slideTile(fields, from, to);
+        emptyIndex = from;
+    }
+
+    /**
+     * Gets the packed fields of the board, four bits per field in row-major order.
+     *
+     * @return The packed fields.
+     */
+    public long getPackedState() {
+        return fields;
+    }
+
+    /**
+     * Gets the row-major index of the empty field.
+     *
+     * @return The index of the empty field, or -1 if there is none.
+     */
+    public int getEmptyIndex() {
+        return emptyIndex;
     }
 
     /**
@@ -104,7 +217,7 @@ public class Board implements Cloneable {
         StringBuilder stringBuilder = new StringBuilder();
         for (int i = 0; i < rows; i++) {
             for (int j = 0; j < columns; j++) {
-                stringBuilder.append(fields.get(i * columns + j).getValue());
+                stringBuilder.append(getFieldValue(i, j));
                 if (j < columns - 1) {
                     stringBuilder.append(" ");
                 }
@@ -121,9 +234,7 @@ public class Board implements Cloneable {
      */
     @Override
     public int hashCode() {
-        HashCodeBuilder hashCodeBuilder = new HashCodeBuilder();
-        hashCodeBuilder.append(fields);
-        return hashCodeBuilder.toHashCode();
+        return Long.hashCode(fields * 0x9E3779B97F4A7C15L);
     }
 
     /**
@@ -134,7 +245,6 @@ public class Board implements Cloneable {
      */
     @Override
     public boolean equals(Object obj) {
-        EqualsBuilder equalsBuilder = new EqualsBuilder();
         if (obj == null) {
             return false;
         }
@@ -145,8 +255,7 @@ public class Board implements Cloneable {
             return false;
         }
         Board rhs = (Board) obj;
-        equalsBuilder.append(fields, rhs.fields);
-        return equalsBuilder.isEquals();
+        return fields == rhs.fields && rows == rhs.rows && columns == rhs.columns;
     }
 
     /**
@@ -189,14 +298,10 @@ public class Board implements Cloneable {
      * @throws IllegalArgumentException if no empty field is found.
      */
     public List<Integer> getEmptyPosition() {
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < columns; j++) {
-                if (getFieldValue(i, j) == 0) {
-                    return new ArrayList<>(List.of(i, j));
-                }
-            }
+        if (emptyIndex < 0) {
+            throw new IllegalArgumentException("No empty field");
         }
-        throw new IllegalArgumentException("No empty field");
+        return new ArrayList<>(List.of(emptyIndex / columns, emptyIndex % columns));
     }
 
     /**
@@ -207,13 +312,12 @@ public class Board implements Cloneable {
      * @return A list of characters representing the possible moves ('U', 'D', 'L', 'R').
      */
     public List<Character> getPossibleMoves(int row, int column) {
-        List<Integer> emptyPosition = this.getEmptyPosition();
         List<Character> possibleMoves = new ArrayList<>();
+        if (emptyIndex < 0) {
+            throw new IllegalArgumentException("No empty field");
+        }
 
-        int emptyRow = emptyPosition.get(0);
-        int emptyColumn = emptyPosition.get(1);
-
-        if (row == emptyRow && column == emptyColumn) {
+        if (row * columns + column == emptyIndex) {
             if (boardValidator.isMoveValid(this, row, column, 'U')) {
                 possibleMoves.add('U');
             }
@@ -230,6 +334,40 @@ public class Board implements Cloneable {
         return possibleMoves;
     }
 
+    /**
+     * Gets the legal moves of the empty field from the move table of the board size.
+     *
+     * @return An unmodifiable list of the directions the empty field can move in, in the order U, D, L, R.
+     * @throws IllegalArgumentException if no empty field is found.
+     */
+    public List<Character> getEmptyMoves() {
+        if (emptyIndex < 0) {
+            throw new IllegalArgumentException("No empty field");
+        }
+        return moveTable.getMoves(emptyIndex);
+    }
+
+    /**
+     * Creates a copy of this board with the empty field moved in the specified direction. Unlike
+     * {@link #move(int, int, char)} the move is looked up in the move table of the board size and does not go
+     * through the controller and validator.
+     *
+     * @param direction The direction of the move ('U', 'D', 'L', 'R').
+     * @return The board after the move.
+     * @throws IllegalArgumentException if there is no empty field or the move leaves the board.
+     */
+    public Board withEmptyMoved(char direction) {
+        if (emptyIndex < 0) {
+            throw new IllegalArgumentException("No empty field");
+        }
+        int target = moveTable.getTarget(emptyIndex, direction);
+        if (target < 0) {
+            throw new IllegalArgumentException("Invalid move");
+        }
+        return new Board(rows, columns, PackedBoard.slideTile(fields, target, emptyIndex), target, moveTable,
+                boardController, boardValidator);
+    }
+
     /**
      * Creates and returns a copy of this board.
      *
@@ -237,11 +375,7 @@ public class Board implements Cloneable {
      */
     @Override
     public Object clone() {
-        ArrayList<Field> clonedFields = new ArrayList<>();
-        for (Field field : fields) {
-            clonedFields.add(new Field(field.getValue()));
-        }
-        return new Board(rows, columns, clonedFields, boardController, boardValidator);
+        return new Board(rows, columns, fields, emptyIndex, moveTable, boardController, boardValidator);
     }
 
     /**
@@ -0,0 +1,60 @@
+package me.jangluzniewicz.graphsearchalgorithms.model;
+
+/**
+ * BoardSymmetry maps packed board states of square boards onto their reflection about the main diagonal.
+ * The solved board is its own reflection once every tile is relabelled with the tile whose goal field is the
+ * reflected goal field, so a state and its reflection are equally far from the solved state.
+ */
+public final class BoardSymmetry {
+
+    private BoardSymmetry() {
+    }
+
+    /**
+     * Checks if boards of the specified size have the diagonal symmetry.
+     *
+     * @param rows    The number of rows on the board.
+     * @param columns The number of columns on the board.
+     * @return True if the board is square, false otherwise.
+     */
+    public static boolean isSymmetric(int rows, int columns) {
+        return rows == columns;
+    }
+
+    /**
+     * Reflects a packed board state about the main diagonal and relabels its tiles.
+     *
+     * @param fields The packed fields of a square board.
+     * @param side   The number of rows and columns of the board.
+     * @return The packed fields of the reflected board.
+     */
+    public static long transpose(long fields, int side) {
+        long transposed = 0;
+        for (int row = 0; row < side; row++) {
+            for (int column = 0; column < side; column++) {
+                int value = PackedBoard.getFieldValue(fields, row * side + column);
+                if (value != 0) {
+                    value = ((value - 1) % side) * side + (value - 1) / side + 1;
+                }
+                transposed = PackedBoard.setFieldValue(transposed, column * side + row, value);
+            }
+        }
+        return transposed;
+    }
+
+    /**
+     * Reflects a move about the main diagonal.
+     *
+     * @param direction The direction of the move ('U', 'D', 'L', 'R').
+     * @return The direction of the reflected move.
+     */
+    public static char transposeMove(char direction) {
+        return switch (direction) {
+            case 'U' -> 'L';
+            case 'L' -> 'U';
+            case 'D' -> 'R';
+            case 'R' -> 'D';
+            default -> throw new IllegalArgumentException("Invalid direction");
+        };
+    }
+}
@@ -0,0 +1,96 @@
+package me.jangluzniewicz.graphsearchalgorithms.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MoveTable holds, for every position of the empty field on a board of one size, the field it moves to in each
+ * direction and the list of legal moves. The tables of all board sizes are built once, so generating successors
+ * takes array lookups instead of row and column arithmetic and bounds checks.
+ */
+public final class MoveTable {
+    private static final char[] DIRECTIONS = {'U', 'D', 'L', 'R'};
+    private static final MoveTable[][] TABLES = new MoveTable[Board.MAX_FIELDS + 1][Board.MAX_FIELDS + 1];
+
+    static {
+        for (int rows = 1; rows <= Board.MAX_FIELDS; rows++) {
+            for (int columns = 1; rows * columns <= Board.MAX_FIELDS; columns++) {
+                TABLES[rows][columns] = new MoveTable(rows, columns);
+            }
+        }
+    }
+
+    private final int[] targets;
+    private final List<List<Character>> moves;
+
+    /**
+     * Constructs the MoveTable of a board size.
+     *
+     * @param rows    The number of rows on the board.
+     * @param columns The number of columns on the board.
+     */
+    private MoveTable(int rows, int columns) {
+        int size = rows * columns;
+        targets = new int[size * DIRECTIONS.length];
+        moves = new ArrayList<>(size);
+        for (int emptyIndex = 0; emptyIndex < size; emptyIndex++) {
+            int row = emptyIndex / columns;
+            int column = emptyIndex % columns;
+            targets[emptyIndex * DIRECTIONS.length] = row != 0 ? emptyIndex - columns : -1;
+            targets[emptyIndex * DIRECTIONS.length + 1] = row != rows - 1 ? emptyIndex + columns : -1;
+            targets[emptyIndex * DIRECTIONS.length + 2] = column != 0 ? emptyIndex - 1 : -1;
+            targets[emptyIndex * DIRECTIONS.length + 3] = column != columns - 1 ? emptyIndex + 1 : -1;
+            List<Character> legal = new ArrayList<>(DIRECTIONS.length);
+            for (int direction = 0; direction < DIRECTIONS.length; direction++) {
+                if (targets[emptyIndex * DIRECTIONS.length + direction] >= 0) {
+                    legal.add(DIRECTIONS[direction]);
+                }
+            }
+            moves.add(List.copyOf(legal));
+        }
+    }
+
+    /**
+     * Gets the MoveTable of a board size.
+     *
+     * @param rows    The number of rows on the board.
+     * @param columns The number of columns on the board.
+     * @return The shared table of the board size.
+     * @throws IllegalArgumentException if the board does not have between 1 and 16 fields.
+     */
+    public static MoveTable of(int rows, int columns) {
+        if (rows < 1 || columns < 1 || rows * columns > Board.MAX_FIELDS) {
+            throw new IllegalArgumentException("Board must have between 1 and 16 fields");
+        }
+        return TABLES[rows][columns];
+    }
+
+    /**
+     * Gets the field the empty field moves to in the specified direction.
+     *
+     * @param emptyIndex The index of the empty field.
+     * @param direction  The direction of the move ('U', 'D', 'L', 'R').
+     * @return The index of the target field, or -1 if the move leaves the board.
+     * @throws IllegalArgumentException if the direction is invalid.
+     */
+    public int getTarget(int emptyIndex, char direction) {
+        int offset = switch (direction) {
+            case 'U' -> 0;
+            case 'D' -> 1;
+            case 'L' -> 2;
+            case 'R' -> 3;
+            default -> throw new IllegalArgumentException("Invalid direction");
+        };
+        return targets[emptyIndex * DIRECTIONS.length + offset];
+    }
+
+    /**
+     * Gets the legal moves of the empty field.
+     *
+     * @param emptyIndex The index of the empty field.
+     * @return An unmodifiable list of the directions that stay on the board, in the order U, D, L, R.
+     */
+    public List<Character> getMoves(int emptyIndex) {
+        return moves.get(emptyIndex);
+    }
+}
@@ -1,34 +1,41 @@
 package me.jangluzniewicz.graphsearchalgorithms.model;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 /**
  * Represents a node in the search tree for a graph search algorithm.
+ * <p>
+ * A node only records its parent and the move that reached it. The path from the root is rebuilt from the parent
+ * pointers the first time it is requested and stored with two bits per move.
  */
 public class Node implements Comparable<Node> {
     private final Board state;
     private final Node parent;
     private final char lastMove;
-    private final List<Character> path;
+    private final List<Character> rootPath;
     private final int depth;
+    private List<Character> path;
     private int totalCost;
+    private int heuristic;
 
     /**
      * Constructs a Node with the specified state, parent, last move, and path.
      *
      * @param state    The board state associated with this node.
-     * @param parent   The parent node of this node.
+     * @param parent   The parent node of this node, or null for a root node.
      * @param lastMove The last move made to reach this node.
-     * @param path     The path of moves from the root to this node.
+     * @param path     The moves that led to the state of a root node before the search, or null if there are none.
+     *                 Nodes with a parent take their path from the parent and ignore this argument.
+     * @throws IllegalArgumentException if the path of a root node contains an invalid direction.
      */
     public Node(Board state, Node parent, char lastMove, List<Character> path) {
         this.state = state;
         this.parent = parent != null ? parent : this;
         this.lastMove = lastMove;
-        this.path = new ArrayList<>(path != null ? path : Collections.emptyList());
         this.depth = parent != null ? parent.getDepth() + 1 : 0;
+        this.rootPath = parent == null && path != null && !path.isEmpty() ? new PackedPath(path) : List.of();
     }
 
     /**
@@ -37,14 +44,10 @@ public class Node implements Comparable<Node> {
      * @return A list of child nodes.
      */
     public List<Node> getChildren() {
-        List<Node> children = new ArrayList<>();
-        List<Integer> emptyFieldPosition = state.getEmptyPosition();
-        for (Character move : state.getPossibleMoves(emptyFieldPosition.get(0), emptyFieldPosition.get(1))) {
-            Board newState = (Board) state.clone();
-            newState.move(emptyFieldPosition.get(0), emptyFieldPosition.get(1), move);
-            Node newNode = new Node(newState, this, move, path);
-            newNode.path.add(move);
-            children.add(newNode);
+        List<Character> moves = state.getEmptyMoves();
+        List<Node> children = new ArrayList<>(moves.size());
+        for (char move : moves) {
+            children.add(new Node(state.withEmptyMoved(move), this, move, null));
         }
         return children;
     }
@@ -77,11 +80,15 @@ public class Node implements Comparable<Node> {
     }
 
     /**
-     * Gets the path of moves from the root node to this node.
+     * Gets the path of moves to this node, starting with the moves that led to the root node.
+     * The path is rebuilt from the parent pointers on first use.
      *
-     * @return The path of moves.
+     * @return An unmodifiable view of the path of moves.
      */
     public List<Character> getPath() {
+        if (path == null) {
+            path = depth == 0 ? rootPath : new PackedPath(this);
+        }
         return path;
     }
 
@@ -112,6 +119,24 @@ public class Node implements Comparable<Node> {
         this.totalCost = totalCost;
     }
 
+    /**
+     * Gets the heuristic estimate of the remaining cost from this node to the goal.
+     *
+     * @return The heuristic estimate.
+     */
+    public int getHeuristic() {
+        return heuristic;
+    }
+
+    /**
+     * Sets the heuristic estimate of the remaining cost from this node to the goal.
+     *
+     * @param heuristic The heuristic estimate to set.
+     */
+    public void setHeuristic(int heuristic) {
+        this.heuristic = heuristic;
+    }
+
     /**
      * Compares this node with another node based on their total cost.
      *
@@ -123,4 +148,80 @@ public class Node implements Comparable<Node> {
     public int compareTo(Node o) {
         return Integer.compare(this.totalCost, o.totalCost);
     }
-}
\ No newline at end of file
+
+    /**
+     * PackedPath is an unmodifiable list of moves stored with two bits per move.
+     */
+    private static final class PackedPath extends AbstractList<Character> {
+        private static final char[] MOVES = {'U', 'D', 'L', 'R'};
+        private static final int MOVES_PER_WORD = Long.SIZE / 2;
+
+        private final long[] moves;
+        private final int size;
+
+        /**
+         * Packs a list of moves.
+         *
+         * @param path The moves to pack.
+         * @throws IllegalArgumentException if a move is not a valid direction.
+         */
+        PackedPath(List<Character> path) {
+            size = path.size();
+            moves = new long[(size + MOVES_PER_WORD - 1) / MOVES_PER_WORD];
+            for (int i = 0; i < size; i++) {
+                pack(i, path.get(i));
+            }
+        }
+
+        /**
+         * Packs the moves from the root of a search tree to a node by following its parent pointers.
+         *
+         * @param node The last node of the path.
+         */
+        PackedPath(Node node) {
+            Node root = node;
+            while (root.parent != root) {
+                root = root.parent;
+            }
+            List<Character> prefix = root.rootPath;
+            size = prefix.size() + node.depth;
+            moves = new long[(size + MOVES_PER_WORD - 1) / MOVES_PER_WORD];
+            for (int i = 0; i < prefix.size(); i++) {
+                pack(i, prefix.get(i));
+            }
+            for (Node current = node; current != root; current = current.parent) {
+                pack(prefix.size() + current.depth - 1, current.lastMove);
+            }
+        }
+
+        /**
+         * Stores a move at the specified index.
+         *
+         * @param index The index of the move.
+         * @param move  The direction of the move ('U', 'D', 'L', 'R').
+         */
+        private void pack(int index, char move) {
+            long code = switch (move) {
+                case 'U' -> 0;
+                case 'D' -> 1;
+                case 'L' -> 2;
+                case 'R' -> 3;
+                default -> throw new IllegalArgumentException("Invalid direction");
+            };
+            moves[index / MOVES_PER_WORD] |= code << ((index % MOVES_PER_WORD) * 2);
+        }
+
+        @Override
+        public Character get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return MOVES[(int) (moves[index / MOVES_PER_WORD] >>> ((index % MOVES_PER_WORD) * 2)) & 3];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package me.jangluzniewicz.graphsearchalgorithms.model;
+
+/**
+ * PackedBoard provides static operations on board states packed into a single {@code long},
+ * four bits per field in row-major order, as produced by {@link Board#getPackedState()}.
+ */
+public final class PackedBoard {
+    private static final int BITS_PER_FIELD = 4;
+    private static final long FIELD_MASK = 0xFL;
+
+    private PackedBoard() {
+    }
+
+    /**
+     * Gets the value of the field at the specified index.
+     *
+     * @param fields The packed fields.
+     * @param index  The row-major index of the field.
+     * @return The value of the field.
+     */
+    public static int getFieldValue(long fields, int index) {
+        return (int) ((fields >>> (index * BITS_PER_FIELD)) & FIELD_MASK);
+    }
+
+    /**
+     * Sets the value of the field at the specified index.
+     *
+     * @param fields The packed fields.
+     * @param index  The row-major index of the field.
+     * @param value  The new value of the field.
+     * @return The packed fields with the value set.
+     */
+    public static long setFieldValue(long fields, int index, int value) {
+        int shift = index * BITS_PER_FIELD;
+        return (fields & ~(FIELD_MASK << shift)) | ((long) value << shift);
+    }
+
+    /**
+     * Slides the tile at one field into another field and leaves the first field empty.
+     *
+     * @param fields The packed fields.
+     * @param from   The index of the field holding the tile.
+     * @param to     The index of the field receiving the tile.
+     * @return The packed fields after the slide.
+     */
+    public static long slideTile(long fields, int from, int to) {
+        int fromShift = from * BITS_PER_FIELD;
+        int toShift = to * BITS_PER_FIELD;
+        long tile = (fields >>> fromShift) & FIELD_MASK;
+        return (fields & ~(FIELD_MASK << fromShift) & ~(FIELD_MASK << toShift)) | (tile << toShift);
+    }
+
+    /**
+     * Finds the first empty field.
+     *
+     * @param fields The packed fields.
+     * @param size   The number of fields on the board.
+     * @return The index of the empty field, or -1 if there is none.
+     */
+    public static int findEmptyIndex(long fields, int size) {
+        for (int i = 0; i < size; i++) {
+            if (((fields >>> (i * BITS_PER_FIELD)) & FIELD_MASK) == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Computes the field the empty field moves to in the specified direction.
+     *
+     * @param emptyIndex The index of the empty field.
+     * @param direction  The direction of the move ('U', 'D', 'L', 'R').
+     * @param rows       The number of rows on the board.
+     * @param columns    The number of columns on the board.
+     * @return The index of the target field, or -1 if the move leaves the board.
+     */
+    public static int getMoveTarget(int emptyIndex, char direction, int rows, int columns) {
+        return MoveTable.of(rows, columns).getTarget(emptyIndex, direction);
+    }
+
+    /**
+     * Gets the move that undoes the specified move.
+     *
+     * @param direction The direction of the move ('U', 'D', 'L', 'R').
+     * @return The opposite direction.
+     */
+    public static char getInverseMove(char direction) {
+        return switch (direction) {
+            case 'U' -> 'D';
+            case 'D' -> 'U';
+            case 'L' -> 'R';
+            case 'R' -> 'L';
+            default -> throw new IllegalArgumentException("Invalid direction");
+        };
+    }
+}
@@ -2,6 +2,7 @@ module me.jangluzniewicz.graphsearchalgorithms {
     requires javafx.controls;
     requires javafx.fxml;
     requires org.apache.commons.lang3;
+    requires jdk.management;
 
     exports me.jangluzniewicz.graphsearchalgorithms.gui;
     exports me.jangluzniewicz.graphsearchalgorithms.logic;
@@ -0,0 +1,141 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.Board;
+import me.jangluzniewicz.graphsearchalgorithms.model.Node;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchSolverTest {
+
+    @Test
+    void testSolveBatch() {
+        List<Board> boards = IntStream.range(0, 40).mapToObj(i -> BoardFactory.getSolvableBoard(3, 3, 20)).toList();
+        List<BatchSolver.Result> results = new ArrayList<>();
+        BatchSolver.Summary summary = new BatchSolver(SolverASTR::new, "MANH", 4).solve(boards.stream(), results::add);
+        assertEquals(boards.size(), results.size());
+        assertEquals(boards.size(), summary.solved());
+        assertEquals(0, summary.unsolved());
+        for (BatchSolver.Result result : results) {
+            assertNull(result.error());
+            assertTrue(boards.contains(result.board()));
+            assertEquals(result.solution().size(), result.stats().solutionLength());
+            Node node = new Node(result.board(), null, 'N', null);
+            for (char move : result.solution()) {
+                node = node.getChildren().stream().filter(child -> child.getLastMove() == move).findFirst().orElseThrow();
+            }
+            assertTrue(node.getState().isBoardSolved());
+        }
+        assertTrue(summary.p50Nanos() <= summary.p90Nanos());
+        assertTrue(summary.p90Nanos() <= summary.p99Nanos());
+        assertTrue(summary.p99Nanos() <= summary.maxNanos());
+        assertTrue(summary.throughput() > 0);
+    }
+
+    @Test
+    void testConcurrencyCap() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        BatchSolver batchSolver = new BatchSolver(() -> new BoardSolverInterface() {
+            @Override
+            public List<Character> solve(Node root, String parameter, SolverLimits limits) {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                return Collections.emptyList();
+            }
+
+            @Override
+            public SolverStats getStats() {
+                return new SolverStats(0, 1, 0, 0, 0, 0, 1, -1, SolverOutcome.SOLVED);
+            }
+        }, "", 3);
+        Stream<Board> boards = Stream.generate(() -> BoardFactory.getSolvedBoard(3, 3)).limit(30);
+        BatchSolver.Summary summary = batchSolver.solve(boards, result -> { });
+        assertEquals(30, summary.solved());
+        assertTrue(peak.get() <= 3);
+    }
+
+    @Test
+    void testFailures() {
+        BatchSolver batchSolver = new BatchSolver(SolverASTR::new, "NONE", 2);
+        List<BatchSolver.Result> results = new ArrayList<>();
+        BatchSolver.Summary summary = batchSolver.solve(Stream.of(BoardFactory.getSolvableBoard(3, 3, 5)), results::add);
+        assertEquals(1, summary.unsolved());
+        assertInstanceOf(IllegalArgumentException.class, results.getFirst().error());
+        assertThrows(IllegalArgumentException.class, () -> new BatchSolver(SolverASTR::new, "MANH", 0));
+    }
+
+    @Test
+    void testThrowingConsumer() {
+        AtomicInteger started = new AtomicInteger();
+        BatchSolver batchSolver = new BatchSolver(() -> {
+            started.incrementAndGet();
+            return new SolverBFS();
+        }, "RDLU", 2);
+        List<Board> boards = IntStream.range(0, 50).mapToObj(i -> BoardFactory.getSolvableBoard(3, 3, 10)).toList();
+        IllegalStateException thrown = assertTimeoutPreemptively(Duration.ofSeconds(30), () ->
+                assertThrows(IllegalStateException.class, () -> batchSolver.solve(boards.stream(), result -> {
+                    throw new IllegalStateException("Consumer failed");
+                })));
+        assertEquals("Consumer failed", thrown.getMessage());
+        assertTrue(started.get() < 50);
+    }
+
+    @Test
+    void testSlowConsumer() {
+        AtomicInteger started = new AtomicInteger();
+        AtomicInteger consumed = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        BatchSolver batchSolver = new BatchSolver(() -> {
+            peak.accumulateAndGet(started.incrementAndGet() - consumed.get(), Math::max);
+            return new SolverBFS();
+        }, "RDLU", 3);
+        Stream<Board> boards = Stream.generate(() -> BoardFactory.getSolvableBoard(3, 3, 5)).limit(20);
+        BatchSolver.Summary summary = assertTimeoutPreemptively(Duration.ofSeconds(30), () ->
+                batchSolver.solve(boards, result -> {
+                    try {
+                        Thread.sleep(10);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    consumed.incrementAndGet();
+                }));
+        assertEquals(20, summary.solved());
+        assertEquals(20, consumed.get());
+        assertTrue(peak.get() <= 3);
+    }
+
+    @Test
+    void testSolverError() {
+        BatchSolver batchSolver = new BatchSolver(() -> new BoardSolverInterface() {
+            @Override
+            public List<Character> solve(Node root, String parameter, SolverLimits limits) {
+                throw new AssertionError("Solver failed");
+            }
+
+            @Override
+            public SolverStats getStats() {
+                return null;
+            }
+        }, "", 2);
+        List<BatchSolver.Result> results = new ArrayList<>();
+        BatchSolver.Summary summary = batchSolver.solve(
+                Stream.generate(() -> BoardFactory.getSolvableBoard(3, 3, 5)).limit(5), results::add);
+        assertEquals(5, summary.solved() + summary.unsolved());
+        assertEquals(5, results.size());
+        results.forEach(result -> assertInstanceOf(AssertionError.class, result.error()));
+    }
+}
@@ -0,0 +1,80 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.Board;
+import me.jangluzniewicz.graphsearchalgorithms.model.Field;
+import me.jangluzniewicz.graphsearchalgorithms.model.Node;
+import me.jangluzniewicz.graphsearchalgorithms.model.PackedBoard;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardAnalysisTest {
+
+    @Test
+    void testSolvableBoards() {
+        int[][] sizes = {{2, 2}, {3, 3}, {4, 4}, {2, 3}, {3, 2}, {3, 4}, {4, 3}, {2, 5}};
+        for (int[] size : sizes) {
+            for (int i = 0; i < 10; i++) {
+                Board board = BoardFactory.getSolvableBoard(size[0], size[1], 40);
+                BoardAnalysis analysis = BoardAnalysis.of(board);
+                assertTrue(analysis.solvable(), size[0] + "x" + size[1]);
+                if (size[0] * size[1] <= 9) {
+                    int optimal = new SolverBFS().solve(new Node(board, null, 'N', null), "RDLU").size();
+                    assertTrue(analysis.lowerBound() <= optimal);
+                    assertEquals(optimal % 2, analysis.lowerBound() % 2);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSwappedTilesAreUnsolvable() {
+        int[][] sizes = {{2, 2}, {3, 3}, {4, 4}, {2, 3}, {3, 4}, {4, 3}, {2, 8}};
+        for (int[] size : sizes) {
+            Board board = BoardFactory.getSolvableBoard(size[0], size[1], 40);
+            List<Field> fields = new ArrayList<>();
+            for (int i = 0; i < size[0] * size[1]; i++) {
+                fields.add(new Field(PackedBoard.getFieldValue(board.getPackedState(), i)));
+            }
+            int first = board.getEmptyIndex() == 0 ? 1 : 0;
+            int second = board.getEmptyIndex() == 2 ? 1 : 2;
+            Collections.swap(fields, first, second);
+            BoardAnalysis analysis = BoardAnalysis.of(BoardFactory.getBoard(size[0], size[1],
+                    new ArrayList<>(fields)));
+            assertFalse(analysis.solvable(), size[0] + "x" + size[1]);
+            assertEquals(-1, analysis.lowerBound());
+        }
+    }
+
+    @Test
+    void testSingleLine() {
+        assertTrue(BoardAnalysis.isSolvable(pack(1, 0, 2, 3), 1, 4));
+        assertTrue(BoardAnalysis.isSolvable(pack(0, 1, 2, 3), 4, 1));
+        assertFalse(BoardAnalysis.isSolvable(pack(2, 0, 1, 3), 1, 4));
+        assertFalse(BoardAnalysis.isSolvable(pack(1, 3, 2, 0), 4, 1));
+    }
+
+    @Test
+    void testLowerBound() {
+        assertEquals(new BoardAnalysis(true, 0), BoardAnalysis.of(BoardFactory.getSolvedBoard(4, 4)));
+        Board board = BoardFactory.getSolvedBoard(3, 3);
+        board.move(2, 2, 'U');
+        board.move(1, 2, 'L');
+        assertEquals(new BoardAnalysis(true, 2), BoardAnalysis.of(board));
+    }
+
+    /**
+     * Packs field values in index order.
+     */
+    private static long pack(int... values) {
+        long fields = 0;
+        for (int i = 0; i < values.length; i++) {
+            fields = PackedBoard.setFieldValue(fields, i, values[i]);
+        }
+        return fields;
+    }
+}
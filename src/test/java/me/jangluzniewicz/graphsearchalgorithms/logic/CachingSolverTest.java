@@ -0,0 +1,130 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.Board;
+import me.jangluzniewicz.graphsearchalgorithms.model.BoardSymmetry;
+import me.jangluzniewicz.graphsearchalgorithms.model.Field;
+import me.jangluzniewicz.graphsearchalgorithms.model.Node;
+import me.jangluzniewicz.graphsearchalgorithms.model.PackedBoard;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingSolverTest {
+
+    @Test
+    void testSolve() {
+        Board board = BoardFactory.getSolvableBoard(3, 3, 20);
+        SolutionCache cache = new SolutionCache(8);
+        CachingSolver solver = new CachingSolver(new SolverASTR(), cache);
+        List<Character> first = solver.solve(new Node(board, null, 'N', null), "MANH");
+        assertEquals("miss", solver.getStats().details().get("Cache"));
+        SolverStats searched = solver.getStats();
+        List<Character> second = new CachingSolver(new SolverASTR(), cache)
+                .solve(new Node(board, null, 'N', null), "MANH");
+        assertEquals(first, second);
+        solver.solve(new Node(board, null, 'N', null), "MANH");
+        SolverStats cached = solver.getStats();
+        assertEquals("memory hit", cached.details().get("Cache"));
+        assertEquals(searched.processedStates(), cached.processedStates());
+        assertEquals(first.size(), cached.solutionLength());
+        assertEquals(new SolutionCache.Metrics(2, 0, 1, 0), cache.getMetrics());
+    }
+
+    @Test
+    void testKeyedByAlgorithmAndParameter() {
+        Board board = BoardFactory.getSolvableBoard(3, 3, 12);
+        SolutionCache cache = new SolutionCache(8);
+        new CachingSolver(new SolverASTR(), cache).solve(new Node(board, null, 'N', null), "MANH");
+        new CachingSolver(new SolverASTR(), cache).solve(new Node(board, null, 'N', null), "HAMM");
+        new CachingSolver(new SolverIDAStar(), cache).solve(new Node(board, null, 'N', null), "MANH");
+        assertEquals(3, cache.getMetrics().misses());
+        assertEquals(3, cache.getMemorySize());
+    }
+
+    @Test
+    void testReflectedBoardSharesEntry() {
+        Board board = BoardFactory.getSolvableBoard(3, 3, 20);
+        while (BoardSymmetry.transpose(board.getPackedState(), 3) == board.getPackedState()) {
+            board = BoardFactory.getSolvableBoard(3, 3, 20);
+        }
+        ArrayList<Field> fields = new ArrayList<>();
+        long reflectedState = BoardSymmetry.transpose(board.getPackedState(), 3);
+        for (int i = 0; i < 9; i++) {
+            fields.add(new Field(PackedBoard.getFieldValue(reflectedState, i)));
+        }
+        Board reflected = BoardFactory.getBoard(3, 3, fields);
+        SolutionCache cache = new SolutionCache(8);
+        List<Character> moves = new CachingSolver(new SolverASTR(), cache)
+                .solve(new Node(board, null, 'N', null), "MANH");
+        CachingSolver solver = new CachingSolver(new SolverASTR(), cache);
+        List<Character> result = solver.solve(new Node(reflected, null, 'N', null), "MANH");
+        assertEquals(moves.stream().map(BoardSymmetry::transposeMove).toList(), result);
+        assertEquals(1, cache.getMemorySize());
+        List<Integer> position;
+        for (Character c : result) {
+            position = reflected.getEmptyPosition();
+            assertTrue(reflected.move(position.get(0), position.get(1), c));
+        }
+        assertTrue(reflected.isBoardSolved());
+    }
+
+    @Test
+    void testReflectedHitEqualsFreshSolve() {
+        List<Supplier<BoardSolverInterface>> factories = List.of(SolverBFS::new, SolverDFS::new, SolverIDDFS::new);
+        for (int i = 0; i < 30; i++) {
+            Board board = BoardFactory.getSolvableBoard(3, 3, 30);
+            while (BoardSymmetry.transpose(board.getPackedState(), 3) == board.getPackedState()) {
+                board = BoardFactory.getSolvableBoard(3, 3, 30);
+            }
+            long reflectedState = BoardSymmetry.transpose(board.getPackedState(), 3);
+            ArrayList<Field> fields = new ArrayList<>();
+            for (int j = 0; j < 9; j++) {
+                fields.add(new Field(PackedBoard.getFieldValue(reflectedState, j)));
+            }
+            Board reflected = BoardFactory.getBoard(3, 3, fields);
+            for (Supplier<BoardSolverInterface> factory : factories) {
+                SolutionCache cache = new SolutionCache(8);
+                new CachingSolver(factory.get(), cache).solve(new Node(reflected, null, 'N', null), "ULDR");
+                CachingSolver solver = new CachingSolver(factory.get(), cache);
+                List<Character> cached = solver.solve(new Node(board, null, 'N', null), "LURD");
+                BoardSolverInterface fresh = factory.get();
+                assertEquals(fresh.solve(new Node(board, null, 'N', null), "LURD"), cached);
+                assertNotEquals("miss", solver.getStats().details().get("Cache"));
+                assertEquals(fresh.getStats().processedStates(), solver.getStats().processedStates());
+                SolutionCache other = new SolutionCache(8);
+                new CachingSolver(factory.get(), other).solve(new Node(reflected, null, 'N', null), "LURD");
+                assertEquals(cached, new CachingSolver(factory.get(), other)
+                        .solve(new Node(board, null, 'N', null), "LURD"));
+            }
+        }
+    }
+
+    @Test
+    void testKeyedByConfiguration() {
+        Board board = BoardFactory.getSolvableBoard(3, 3, 30);
+        SolutionCache cache = new SolutionCache(8);
+        new CachingSolver(new SolverDFS(10), cache).solve(new Node(board, null, 'N', null), "RDLU");
+        new CachingSolver(new SolverDFS(30), cache).solve(new Node(board, null, 'N', null), "RDLU");
+        new CachingSolver(new SolverIDDFS(20), cache).solve(new Node(board, null, 'N', null), "RDLU");
+        new CachingSolver(new SolverIDDFS(20, 1 << 16), cache).solve(new Node(board, null, 'N', null), "RDLU");
+        assertEquals(4, cache.getMetrics().misses());
+        assertEquals("SolverDFS(30, 1048576)", new SolverDFS().getName());
+        assertEquals("SolverBFS", new SolverBFS().getName());
+    }
+
+    @Test
+    void testStoppedSearchIsNotCached() {
+        Board board = BoardFactory.getSolvableBoard(3, 3, 20);
+        SolutionCache cache = new SolutionCache(8);
+        CachingSolver solver = new CachingSolver(new SolverBFS(), cache);
+        CancellationToken token = new CancellationToken();
+        token.cancel();
+        solver.solve(new Node(board, null, 'N', null), "RDLU", SolverLimits.cancellable(token));
+        assertEquals(SolverOutcome.CANCELLED, solver.getStats().outcome());
+        assertEquals(0, cache.getMemorySize());
+    }
+}
@@ -0,0 +1,55 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.Node;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexedBucketQueueTest {
+
+    @Test
+    void pollOrder() {
+        Node root = new Node(BoardFactory.getSolvedBoard(3, 3), null, 'N', null);
+        List<Node> children = root.getChildren();
+        Node grandchild = children.getFirst().getChildren().getLast();
+        root.setTotalCost(5);
+        children.getFirst().setTotalCost(5);
+        grandchild.setTotalCost(5);
+        children.getLast().setTotalCost(3);
+        IndexedBucketQueue queue = new IndexedBucketQueue();
+        queue.add(root);
+        queue.add(children.getFirst());
+        queue.add(grandchild);
+        queue.add(children.getLast());
+        assertEquals(4, queue.size());
+        assertSame(children.getLast(), queue.poll());
+        assertSame(grandchild, queue.poll());
+        assertSame(children.getFirst(), queue.poll());
+        assertSame(root, queue.poll());
+        assertTrue(queue.isEmpty());
+        assertThrows(NoSuchElementException.class, queue::poll);
+    }
+
+    @Test
+    void decreaseKey() {
+        Node root = new Node(BoardFactory.getSolvedBoard(3, 3), null, 'N', null);
+        Node child = root.getChildren().getFirst();
+        Node deeper = child.getChildren().getFirst();
+        deeper.setTotalCost(9);
+        child.setTotalCost(4);
+        IndexedBucketQueue queue = new IndexedBucketQueue();
+        queue.add(deeper);
+        queue.add(child);
+        Node replacement = new Node(deeper.getState(), null, 'N', null);
+        replacement.setTotalCost(2);
+        queue.decreaseKey(deeper, replacement);
+        assertSame(replacement, queue.get(deeper.getState().getPackedState()));
+        assertThrows(IllegalArgumentException.class, () -> queue.decreaseKey(deeper, replacement));
+        assertSame(replacement, queue.poll());
+        assertSame(child, queue.poll());
+        assertNull(queue.get(child.getState().getPackedState()));
+    }
+}
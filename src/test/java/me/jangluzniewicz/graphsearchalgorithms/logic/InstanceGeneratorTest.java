@@ -0,0 +1,105 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.Board;
+import me.jangluzniewicz.graphsearchalgorithms.model.Node;
+import me.jangluzniewicz.graphsearchalgorithms.model.PackedBoard;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InstanceGeneratorTest {
+
+    @Test
+    void testReproducible() {
+        for (InstanceGenerator.Mode mode : InstanceGenerator.Mode.values()) {
+            InstanceGenerator first = new InstanceGenerator(4, 4, 42);
+            InstanceGenerator second = new InstanceGenerator(4, 4, 42);
+            List<Board> boards = first.boards(mode, 10, 20).toList();
+            for (int i = 19; i >= 0; i--) {
+                assertEquals(boards.get(i).getPackedState(), second.generate(mode, 10, i), mode.name());
+            }
+            assertNotEquals(first.generate(mode, 10, 0), first.generate(mode, 10, 1), mode.name());
+        }
+        assertNotEquals(new InstanceGenerator(4, 4, 1).generate(InstanceGenerator.Mode.UNIFORM, 0, 0),
+                new InstanceGenerator(4, 4, 2).generate(InstanceGenerator.Mode.UNIFORM, 0, 0));
+    }
+
+    @Test
+    void testUniform() {
+        InstanceGenerator generator = new InstanceGenerator(4, 4, 7);
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(BoardAnalysis.isSolvable(generator.generate(InstanceGenerator.Mode.UNIFORM, 0, i), 4, 4));
+        }
+        InstanceGenerator small = new InstanceGenerator(2, 2, 7);
+        Map<Long, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 12000; i++) {
+            counts.merge(small.generate(InstanceGenerator.Mode.UNIFORM, 0, i), 1, Integer::sum);
+        }
+        assertEquals(12, counts.size());
+        counts.forEach((state, count) -> {
+            assertTrue(BoardAnalysis.isSolvable(state, 2, 2));
+            assertTrue(count > 800 && count < 1200, String.valueOf(count));
+        });
+        InstanceGenerator line = new InstanceGenerator(1, 4, 7);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(BoardAnalysis.isSolvable(line.generate(InstanceGenerator.Mode.UNIFORM, 0, i), 1, 4));
+        }
+    }
+
+    @Test
+    void testRandomWalk() {
+        InstanceGenerator generator = new InstanceGenerator(3, 4, 3);
+        assertEquals(Board.getSolvedState(3, 4), generator.generate(InstanceGenerator.Mode.RANDOM_WALK, 0, 0));
+        assertEquals(BoardAnalysis.of(BoardFactory.getSolvedBoard(3, 4)).lowerBound() + 1,
+                BoardAnalysis.of(generator.getBoard(InstanceGenerator.Mode.RANDOM_WALK, 1, 0)).lowerBound());
+        for (int i = 0; i < 100; i++) {
+            assertTrue(BoardAnalysis.isSolvable(generator.generate(InstanceGenerator.Mode.RANDOM_WALK, 50, i), 3, 4));
+        }
+        long state = new InstanceGenerator(1, 2, 3).generate(InstanceGenerator.Mode.RANDOM_WALK, 3, 0);
+        assertEquals(0, PackedBoard.getFieldValue(state, 0));
+        assertEquals(Board.getSolvedState(1, 1), new InstanceGenerator(1, 1, 3)
+                .generate(InstanceGenerator.Mode.RANDOM_WALK, 5, 0));
+    }
+
+    @Test
+    void testDistance() {
+        InstanceGenerator generator = new InstanceGenerator(3, 3, 11);
+        for (int distance : new int[]{0, 1, 7, 18}) {
+            for (int i = 0; i < 10; i++) {
+                Board board = generator.getBoard(InstanceGenerator.Mode.DISTANCE, distance, i);
+                assertEquals(distance, new SolverBFS().solve(new Node(board, null, 'N', null), "RDLU").size());
+            }
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> generator.generate(InstanceGenerator.Mode.DISTANCE, 32, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> generator.generate(InstanceGenerator.Mode.RANDOM_WALK, -1, 0));
+    }
+
+    @Test
+    void testWrite(@TempDir Path directory) throws IOException {
+        InstanceGenerator generator = new InstanceGenerator(4, 4, 5);
+        Path file = directory.resolve("instances.txt");
+        generator.write(InstanceGenerator.Mode.RANDOM_WALK, 30, 20000, file);
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(20000, lines.size());
+        for (int i = 0; i < lines.size(); i += 997) {
+            long expected = generator.generate(InstanceGenerator.Mode.RANDOM_WALK, 30, i);
+            String[] values = lines.get(i).split(",");
+            assertEquals(16, values.length);
+            for (int j = 0; j < 16; j++) {
+                assertEquals(PackedBoard.getFieldValue(expected, j), Integer.parseInt(values[j]));
+            }
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> generator.write(InstanceGenerator.Mode.UNIFORM, 0, -1, file));
+    }
+}
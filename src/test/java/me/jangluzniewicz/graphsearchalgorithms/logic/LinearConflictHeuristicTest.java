@@ -0,0 +1,62 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.Board;
+import me.jangluzniewicz.graphsearchalgorithms.model.Field;
+import me.jangluzniewicz.graphsearchalgorithms.model.Node;
+import me.jangluzniewicz.graphsearchalgorithms.model.PackedBoard;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LinearConflictHeuristicTest {
+
+    @Test
+    void testEstimate() {
+        ArrayList<Field> fieldsArray = new ArrayList<>();
+        for (int value : new int[]{2, 1, 3, 4, 5, 6, 7, 8, 0}) {
+            fieldsArray.add(new Field(value));
+        }
+        Board board = BoardFactory.getBoard(3, 3, fieldsArray);
+        HeuristicInterface heuristic = new LinearConflictHeuristic(3, 3);
+        assertEquals(4, heuristic.estimate(board.getPackedState()));
+        assertEquals(0, heuristic.estimate(Board.getSolvedState(3, 3)));
+    }
+
+    @Test
+    void testUpdate() {
+        HeuristicInterface heuristic = new LinearConflictHeuristic(4, 4);
+        Random random = new Random(11);
+        long fields = Board.getSolvedState(4, 4);
+        int emptyIndex = 15;
+        int estimate = heuristic.estimate(fields);
+        for (int i = 0; i < 2_000; i++) {
+            char move = "UDLR".charAt(random.nextInt(4));
+            int target = PackedBoard.getMoveTarget(emptyIndex, move, 4, 4);
+            if (target < 0) {
+                continue;
+            }
+            int value = PackedBoard.getFieldValue(fields, target);
+            fields = PackedBoard.slideTile(fields, target, emptyIndex);
+            estimate = heuristic.update(fields, estimate, value, target, emptyIndex);
+            emptyIndex = target;
+            assertEquals(heuristic.estimate(fields), estimate);
+        }
+    }
+
+    @Test
+    void testAdmissible() {
+        HeuristicInterface heuristic = new LinearConflictHeuristic(3, 3);
+        HeuristicInterface manhattan = new ManhattanHeuristic(3, 3);
+        for (int i = 0; i < 20; i++) {
+            Board board = BoardFactory.getSolvableBoard(3, 3, 40);
+            List<Character> optimal = new SolverBFS().solve(new Node(board, null, 'N', null), "UDLR");
+            int estimate = heuristic.estimate(board.getPackedState());
+            assertTrue(estimate <= optimal.size());
+            assertTrue(estimate >= manhattan.estimate(board.getPackedState()));
+        }
+    }
+}
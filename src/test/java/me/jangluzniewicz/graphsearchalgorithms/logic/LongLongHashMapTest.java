@@ -0,0 +1,49 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongLongHashMapTest {
+
+    @Test
+    void putGetRemove() {
+        LongLongHashMap map = new LongLongHashMap();
+        map.put(42, 1);
+        map.put(42, 2);
+        map.put(0, 3);
+        assertEquals(2, map.get(42, -1));
+        assertEquals(3, map.get(0, -1));
+        assertEquals(-1, map.get(7, -1));
+        assertEquals(2, map.size());
+        assertTrue(map.remove(42));
+        assertFalse(map.remove(42));
+        assertTrue(map.remove(0));
+        assertFalse(map.containsKey(0));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    void matchesHashMap() {
+        LongLongHashMap map = new LongLongHashMap();
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key) != null, map.remove(key));
+            } else {
+                expected.put(key, (long) i);
+                map.put(key, i);
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        for (long key = 0; key < 5_000; key++) {
+            assertEquals(expected.getOrDefault(key, -1L), map.get(key, -1));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongRingBufferTest {
+
+    @Test
+    void queueOrder() {
+        LongRingBuffer buffer = new LongRingBuffer();
+        for (long i = 0; i < 1500; i++) {
+            buffer.addLast(i);
+        }
+        for (long i = 0; i < 1000; i++) {
+            assertEquals(i, buffer.pollFirst());
+        }
+        for (long i = 1500; i < 3000; i++) {
+            buffer.addLast(i);
+        }
+        assertEquals(2000, buffer.size());
+        for (long i = 1000; i < 3000; i++) {
+            assertEquals(i, buffer.pollFirst());
+        }
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    void stackOrder() {
+        LongRingBuffer buffer = new LongRingBuffer();
+        for (long i = 0; i < 2000; i++) {
+            buffer.addLast(i);
+        }
+        for (long i = 1999; i >= 0; i--) {
+            assertEquals(i, buffer.pollLast());
+        }
+        assertThrows(NoSuchElementException.class, buffer::pollLast);
+    }
+}
@@ -0,0 +1,86 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.Board;
+import me.jangluzniewicz.graphsearchalgorithms.model.BoardSymmetry;
+import me.jangluzniewicz.graphsearchalgorithms.model.Node;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PatternDatabaseTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testLookup() {
+        PatternDatabase database = PatternDatabase.build(3, 3, 1, 2, 3, 4);
+        assertEquals(0, database.lookup(Board.getSolvedState(3, 3)));
+        Board board = BoardFactory.getSolvedBoard(3, 3);
+        board.move(2, 2, 'U');
+        assertEquals(0, database.lookup(board.getPackedState()));
+        board.move(1, 2, 'L');
+        board.move(1, 1, 'U');
+        assertEquals(1, database.lookup(board.getPackedState()));
+    }
+
+    @Test
+    void testSaveAndLoad() throws IOException {
+        PatternDatabase built = PatternDatabase.build(3, 3, 5, 6, 7, 8);
+        Path path = directory.resolve("pattern.bin");
+        built.save(path);
+        PatternDatabase loaded = PatternDatabase.load(path);
+        assertArrayEquals(new int[]{5, 6, 7, 8}, loaded.getTiles());
+        for (int i = 0; i < 20; i++) {
+            long fields = BoardFactory.getSolvableBoard(3, 3, 30).getPackedState();
+            assertEquals(built.lookup(fields), loaded.lookup(fields));
+        }
+    }
+
+    @Test
+    void testCopy() throws IOException {
+        PatternDatabaseHeuristic heuristic = PatternDatabaseHeuristic.load(directory, 3, 3,
+                PatternDatabaseHeuristic.getDefaultPatterns(3, 3));
+        PatternDatabaseHeuristic copy = heuristic.copy();
+        assertNotSame(heuristic, copy);
+        for (int i = 0; i < 20; i++) {
+            long fields = BoardFactory.getSolvableBoard(3, 3, 30).getPackedState();
+            assertEquals(heuristic.estimate(fields), copy.estimate(fields));
+        }
+    }
+
+    @Test
+    void testInvalidPattern() {
+        assertThrows(IllegalArgumentException.class, () -> PatternDatabase.build(3, 3, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> PatternDatabase.build(3, 3, 9));
+        assertThrows(IllegalArgumentException.class, () -> new PatternDatabaseHeuristic(List.of(
+                PatternDatabase.build(3, 3, 1, 2), PatternDatabase.build(3, 3, 2, 3))));
+    }
+
+    @Test
+    void testTranspose() {
+        Board board = BoardFactory.getSolvableBoard(4, 4, 20);
+        long fields = board.getPackedState();
+        assertEquals(Board.getSolvedState(4, 4), BoardSymmetry.transpose(Board.getSolvedState(4, 4), 4));
+        assertEquals(fields, BoardSymmetry.transpose(BoardSymmetry.transpose(fields, 4), 4));
+    }
+
+    @Test
+    void testAdmissible() throws IOException {
+        PatternDatabaseHeuristic heuristic = PatternDatabaseHeuristic.load(directory, 3, 3,
+                PatternDatabaseHeuristic.getDefaultPatterns(3, 3));
+        HeuristicInterface manhattan = new ManhattanHeuristic(3, 3);
+        for (int i = 0; i < 10; i++) {
+            Board board = BoardFactory.getSolvableBoard(3, 3, 20);
+            List<Character> optimal = new SolverBFS().solve(new Node(board, null, 'N', null), "UDLR");
+            int estimate = heuristic.estimate(board.getPackedState());
+            assertTrue(estimate <= optimal.size());
+            assertTrue(estimate >= manhattan.estimate(board.getPackedState()));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.Board;
+import me.jangluzniewicz.graphsearchalgorithms.model.MoveTable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchPathTest {
+
+    @Test
+    void testAdvanceAndUndo() {
+        Board board = BoardFactory.getSolvedBoard(3, 3);
+        SearchPath path = new SearchPath(board.getPackedState(), board.getEmptyIndex(), MoveTable.of(3, 3),
+                MoveOrder.compile("LURD"));
+        List<Character> firstMoves = new ArrayList<>();
+        while (path.advance()) {
+            firstMoves.add(path.getLastMove());
+            assertEquals(1, path.getDepth());
+            assertEquals(board.withEmptyMoved(path.getLastMove()).getPackedState(), path.getFields());
+            path.undo();
+            assertEquals(board.getPackedState(), path.getFields());
+            assertEquals(board.getEmptyIndex(), path.getEmptyIndex());
+        }
+        assertEquals(List.of('L', 'U'), firstMoves);
+        assertThrows(IllegalStateException.class, path::undo);
+    }
+
+    @Test
+    void testSkipsInverseMove() {
+        Board board = BoardFactory.getSolvedBoard(3, 3);
+        SearchPath path = new SearchPath(board.getPackedState(), board.getEmptyIndex(), MoveTable.of(3, 3),
+                MoveOrder.compile("UDLR"));
+        assertTrue(path.advance());
+        assertEquals('U', path.getLastMove());
+        List<Character> secondMoves = new ArrayList<>();
+        while (path.advance()) {
+            secondMoves.add(path.getLastMove());
+            path.undo();
+        }
+        assertEquals(List.of('U', 'L'), secondMoves);
+        assertEquals(List.of('U'), path.getMoves());
+        assertEquals(5, path.getEmptyIndex());
+        assertEquals(8, path.getPreviousEmptyIndex());
+    }
+
+    @Test
+    void testDeepPath() {
+        Board board = BoardFactory.getSolvedBoard(2, 2);
+        SearchPath path = new SearchPath(board.getPackedState(), board.getEmptyIndex(), MoveTable.of(2, 2),
+                MoveOrder.compile("UDLR"));
+        for (int i = 0; i < 40; i++) {
+            assertTrue(path.advance());
+        }
+        assertEquals(40, path.getMoves().size());
+        for (int i = 0; i < 40; i++) {
+            path.undo();
+        }
+        assertEquals(board.getPackedState(), path.getFields());
+    }
+}
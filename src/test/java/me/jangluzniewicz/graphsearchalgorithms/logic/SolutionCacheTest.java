@@ -0,0 +1,95 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SolutionCacheTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testLeastRecentlyUsedEviction() {
+        SolutionCache cache = new SolutionCache(2);
+        cache.put(getKey(1), getEntry("UD"));
+        cache.put(getKey(2), getEntry("LR"));
+        assertNotNull(cache.get(getKey(1)));
+        cache.put(getKey(3), getEntry("RRL"));
+        assertNull(cache.get(getKey(2)));
+        assertEquals(List.of('U', 'D'), cache.get(getKey(1)).entry().moves());
+        assertEquals(2, cache.getMemorySize());
+        assertEquals(new SolutionCache.Metrics(2, 0, 1, 1), cache.getMetrics());
+        assertThrows(IllegalArgumentException.class, () -> new SolutionCache(0));
+    }
+
+    @Test
+    void testDiskTier() throws IOException {
+        Path path = directory.resolve("solutions");
+        SolverStats stats = new SolverStats(5, 12, 7, 5, 1000, 4, 12, -1, SolverOutcome.SOLVED,
+                Map.of("Iterations", "3"));
+        try (SolutionCache cache = new SolutionCache(1, path)) {
+            cache.put(getKey(1), new SolutionCache.Entry(List.of('U', 'D', 'L', 'R', 'R'), stats));
+            cache.put(getKey(2), getEntry(""));
+            assertEquals(2, cache.getDiskSize());
+        }
+        try (SolutionCache cache = new SolutionCache(1, path)) {
+            SolutionCache.Hit hit = cache.get(getKey(1));
+            assertTrue(hit.fromDisk());
+            assertEquals(List.of('U', 'D', 'L', 'R', 'R'), hit.entry().moves());
+            assertEquals(stats, hit.entry().stats());
+            assertFalse(cache.get(getKey(1)).fromDisk());
+            assertTrue(cache.get(getKey(2)).entry().moves().isEmpty());
+            assertNull(cache.get(getKey(3)));
+            assertEquals(new SolutionCache.Metrics(1, 2, 1, 1), cache.getMetrics());
+        }
+    }
+
+    @Test
+    void testTruncatedRecord() throws IOException {
+        Path path = directory.resolve("solutions");
+        try (SolutionCache cache = new SolutionCache(4, path)) {
+            cache.put(getKey(1), getEntry("UDLR"));
+            cache.put(getKey(2), getEntry("RL"));
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+        long truncated = Files.size(path);
+        try (SolutionCache cache = new SolutionCache(4, path)) {
+            assertEquals(1, cache.getDiskSize());
+            assertTrue(Files.size(path) < truncated);
+            cache.put(getKey(3), getEntry("D"));
+        }
+        try (SolutionCache cache = new SolutionCache(4, path)) {
+            assertEquals(2, cache.getDiskSize());
+            assertEquals(List.of('D'), cache.get(getKey(3)).entry().moves());
+        }
+    }
+
+    @Test
+    void testInvalidFile() throws IOException {
+        Path path = directory.resolve("other");
+        Files.writeString(path, "not a cache");
+        assertThrows(IOException.class, () -> new SolutionCache(1, path));
+    }
+
+    private static SolutionCache.Key getKey(long state) {
+        return new SolutionCache.Key(state, 3, 3, "SolverASTR", "MANH");
+    }
+
+    private static SolutionCache.Entry getEntry(String moves) {
+        List<Character> path = moves.chars().mapToObj(move -> (char) move).toList();
+        return new SolutionCache.Entry(path, new SolverStats(path.size(), 1, 1, path.size(), 1, 1, 1, -1,
+                path.isEmpty() ? SolverOutcome.EXHAUSTED : SolverOutcome.SOLVED));
+    }
+}
@@ -46,6 +46,8 @@ class SolverASTRTest {
         Node root = new Node(board, null, 'N', null);
         List<Character> result = solverASTR.solve(root, "MANH");
         assertFalse(result.isEmpty());
+        assertEquals(9, root.getHeuristic());
+        assertEquals(9, result.size());
         List<Integer> position;
         for (Character c : result) {
             position  = board.getEmptyPosition();
@@ -69,6 +71,7 @@ class SolverASTRTest {
         Node root = new Node(board, null, 'N', null);
         List<Character> result = solverASTR.solve(root, "HAMM");
         assertFalse(result.isEmpty());
+        assertEquals(9, root.getHeuristic());
         List<Integer> position;
         for (Character c : result) {
             position  = board.getEmptyPosition();
@@ -106,4 +109,19 @@ class SolverASTRTest {
         }
         assertTrue(board3_4.isBoardSolved());
     }
+
+    @Test
+    void testSolveOptimal() {
+        for (int i = 0; i < 5; i++) {
+            Board scrambled = BoardFactory.getSolvableBoard(3, 3, 30);
+            List<Character> optimal = new SolverBFS().solve(new Node(scrambled, null, 'N', null), "UDLR");
+            for (String parameter : List.of("MANH", "LINC", "WALK")) {
+                for (SolverASTR.OpenListType type : SolverASTR.OpenListType.values()) {
+                    List<Character> result = new SolverASTR(type).solve(new Node(scrambled, null, 'N', null),
+                            parameter);
+                    assertEquals(optimal.size(), result.size());
+                }
+            }
+        }
+    }
 }
\ No newline at end of file
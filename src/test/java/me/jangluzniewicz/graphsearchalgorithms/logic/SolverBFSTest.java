@@ -99,4 +99,20 @@ class SolverBFSTest {
         }
         assertTrue(board4_3.isBoardSolved());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testSymmetricStatesAreOptimal() {
+        for (int i = 0; i < 20; i++) {
+            Board scrambled = BoardFactory.getSolvableBoard(3, 3, 30);
+            List<Character> result = new SolverBFS().solve(new Node(scrambled, null, 'N', null), "RDLU");
+            List<Character> optimal = new SolverASTR().solve(new Node(scrambled, null, 'N', null), "MANH");
+            assertEquals(optimal.size(), result.size());
+            List<Integer> position;
+            for (Character c : result) {
+                position = scrambled.getEmptyPosition();
+                assertTrue(scrambled.move(position.get(0), position.get(1), c));
+            }
+            assertTrue(scrambled.isBoardSolved());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.Board;
+import me.jangluzniewicz.graphsearchalgorithms.model.Node;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SolverBidirectionalBFSTest {
+
+    @Test
+    void testSolve() {
+        Board board = BoardFactory.getSolvableBoard(4, 4, 30);
+        List<Character> result = new SolverBidirectionalBFS().solve(new Node(board, null, 'N', null), "RDLU");
+        List<Integer> position;
+        for (Character c : result) {
+            position = board.getEmptyPosition();
+            assertTrue(board.move(position.get(0), position.get(1), c));
+        }
+        assertTrue(board.isBoardSolved());
+    }
+
+    @Test
+    void testSolveOptimal() {
+        for (int[] size : new int[][]{{3, 3}, {3, 4}, {4, 3}}) {
+            for (int i = 0; i < 5; i++) {
+                Board board = BoardFactory.getSolvableBoard(size[0], size[1], 18);
+                List<Character> optimal = new SolverBFS().solve(new Node(board, null, 'N', null), "ULDR");
+                List<Character> result = new SolverBidirectionalBFS().solve(new Node(board, null, 'N', null), "ULDR");
+                assertEquals(optimal.size(), result.size());
+            }
+        }
+    }
+
+    @Test
+    void testSolved() {
+        SolverBidirectionalBFS solver = new SolverBidirectionalBFS();
+        assertTrue(solver.solve(new Node(BoardFactory.getSolvedBoard(3, 3), null, 'N', null), "RDLU").isEmpty());
+        assertEquals(0, solver.getStats().solutionLength());
+    }
+}
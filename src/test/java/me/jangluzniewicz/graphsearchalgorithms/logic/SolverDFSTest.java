@@ -75,4 +75,32 @@ class SolverDFSTest {
         }
         assertTrue(board3_4.isBoardSolved());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testDepthLimit() {
+        Board scrambled = BoardFactory.getSolvableBoard(3, 3, 30);
+        while (new SolverBFS().solve(new Node(scrambled, null, 'N', null), "RDLU").size() < 4) {
+            scrambled = BoardFactory.getSolvableBoard(3, 3, 30);
+        }
+        SolverDFS solverDFS = new SolverDFS(3);
+        assertTrue(solverDFS.solve(new Node(scrambled, null, 'N', null), "RDLU").isEmpty());
+        assertEquals(SolverOutcome.EXHAUSTED, solverDFS.getStats().outcome());
+        assertTrue(solverDFS.getStats().maxDepth() <= 3);
+        assertThrows(IllegalArgumentException.class, () -> new SolverDFS(-1));
+    }
+
+    @Test
+    void testFindsSolutionAtDepthLimit() {
+        for (int i = 0; i < 10; i++) {
+            Board scrambled = BoardFactory.getSolvableBoard(3, 3, 30);
+            int optimal = new SolverBFS().solve(new Node(scrambled, null, 'N', null), "RDLU").size();
+            SolverDFS solverDFS = new SolverDFS(optimal);
+            List<Character> result = solverDFS.solve(new Node(scrambled, null, 'N', null), "LURD");
+            assertEquals(optimal, result.size());
+            assertEquals(SolverOutcome.SOLVED, solverDFS.getStats().outcome());
+            assertNotNull(solverDFS.getStats().details().get("Transposition prune rate"));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new SolverDFS(256));
+        assertThrows(IllegalArgumentException.class, () -> new SolverDFS(30, 1000));
+    }
+}
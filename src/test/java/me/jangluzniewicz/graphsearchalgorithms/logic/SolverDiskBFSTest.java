@@ -0,0 +1,62 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.Board;
+import me.jangluzniewicz.graphsearchalgorithms.model.Node;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SolverDiskBFSTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testStateFile() throws IOException {
+        Path path = directory.resolve("states");
+        long[] states = {Long.MIN_VALUE, -5, 0, 3, 3, 1L << 40, Long.MAX_VALUE};
+        try (StateFileWriter writer = new StateFileWriter(path)) {
+            for (long state : states) {
+                writer.write(state);
+            }
+            assertEquals(6, writer.count());
+            assertThrows(IllegalArgumentException.class, () -> writer.write(1));
+        }
+        try (StateFileReader reader = new StateFileReader(path)) {
+            for (long state : new long[]{Long.MIN_VALUE, -5, 0, 3, 1L << 40, Long.MAX_VALUE}) {
+                assertTrue(reader.advance());
+                assertEquals(state, reader.current());
+            }
+            assertFalse(reader.advance());
+        }
+    }
+
+    @Test
+    void testSolveOptimal() throws IOException {
+        for (int[] size : new int[][]{{3, 3}, {4, 4}}) {
+            for (int i = 0; i < 3; i++) {
+                Board board = BoardFactory.getSolvableBoard(size[0], size[1], 14);
+                List<Character> optimal = new SolverBFS().solve(new Node(board, null, 'N', null), "RDLU");
+                List<Character> result = new SolverDiskBFS(directory, 64).solve(new Node(board, null, 'N', null),
+                        "RDLU");
+                assertEquals(optimal.size(), result.size());
+                List<Integer> position;
+                for (Character c : result) {
+                    position = board.getEmptyPosition();
+                    assertTrue(board.move(position.get(0), position.get(1), c));
+                }
+                assertTrue(board.isBoardSolved());
+            }
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+}
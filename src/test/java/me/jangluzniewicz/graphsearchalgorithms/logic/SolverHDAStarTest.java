@@ -0,0 +1,77 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.Board;
+import me.jangluzniewicz.graphsearchalgorithms.model.Node;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SolverHDAStarTest {
+
+    @Test
+    void testSolve() {
+        Board board = BoardFactory.getSolvableBoard(4, 4, 60);
+        SolverHDAStar solver = new SolverHDAStar(4);
+        List<Character> result = solver.solve(new Node(board, null, 'N', null), "WALK");
+        List<Character> optimal = new SolverIDAStar().solve(new Node(board, null, 'N', null), "WALK");
+        assertEquals(optimal.size(), result.size());
+        List<Integer> position;
+        for (Character c : result) {
+            position = board.getEmptyPosition();
+            assertTrue(board.move(position.get(0), position.get(1), c));
+        }
+        assertTrue(board.isBoardSolved());
+        assertEquals(4, solver.getWorkerExpansions().length);
+        assertTrue(Arrays.stream(solver.getWorkerExpansions()).allMatch(expansions -> expansions > 0));
+        assertTrue(solver.getLoadImbalance() >= 1);
+        assertTrue(solver.getStats().details().containsKey("Load imbalance"));
+    }
+
+    @Test
+    void testSolveOptimal() {
+        for (int[] size : new int[][]{{3, 3}, {3, 4}}) {
+            for (int i = 0; i < 5; i++) {
+                Board board = BoardFactory.getSolvableBoard(size[0], size[1], 20);
+                List<Character> optimal = new SolverBFS().solve(new Node(board, null, 'N', null), "UDLR");
+                for (String parameter : new String[]{"MANH", "LINC"}) {
+                    List<Character> result = new SolverHDAStar(3).solve(new Node(board, null, 'N', null), parameter);
+                    assertEquals(optimal.size(), result.size());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testInterrupt() throws InterruptedException {
+        Board board;
+        do {
+            board = BoardFactory.getSolvableBoard(4, 4, 500);
+        } while (BoardAnalysis.of(board).lowerBound() < 30);
+        Node root = new Node(board, null, 'N', null);
+        SolverHDAStar solver = new SolverHDAStar(2);
+        AtomicBoolean interruptRestored = new AtomicBoolean();
+        Thread caller = new Thread(() -> {
+            solver.solve(root, "HAMM");
+            interruptRestored.set(Thread.currentThread().isInterrupted());
+        });
+        caller.start();
+        Thread.sleep(200);
+        caller.interrupt();
+        caller.join(30_000);
+        assertFalse(caller.isAlive());
+        assertTrue(interruptRestored.get());
+        assertEquals(SolverOutcome.CANCELLED, solver.getStats().outcome());
+        assertEquals(-1, solver.getStats().solutionLength());
+        assertTrue(Thread.getAllStackTraces().keySet().stream()
+                .noneMatch(thread -> thread.getName().startsWith("hda-worker-")));
+    }
+
+    @Test
+    void testInvalidWorkerCount() {
+        assertThrows(IllegalArgumentException.class, () -> new SolverHDAStar(0));
+    }
+}
@@ -0,0 +1,75 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.Board;
+import me.jangluzniewicz.graphsearchalgorithms.model.Field;
+import me.jangluzniewicz.graphsearchalgorithms.model.Node;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SolverIDAStarTest {
+    Board board;
+
+    @BeforeEach
+    void setUp() {
+        ArrayList<Field> fieldsArray = new ArrayList<>();
+        for (int i = 1; i < 16; i++) {
+            fieldsArray.add(new Field(i));
+        }
+        fieldsArray.add(new Field(0));
+        board = BoardFactory.getBoard(fieldsArray);
+    }
+
+    @Test
+    void testSolveManhattan() {
+        SolverIDAStar solverIDAStar = new SolverIDAStar();
+        assertTrue(board.move(3, 3, 'L'));
+        board.move(3, 2, 'L');
+        board.move(3, 1, 'L');
+        board.move(3, 0, 'U');
+        board.move(2, 0, 'U');
+        board.move(1, 0, 'U');
+        board.move(0, 0, 'R');
+        board.move(0, 1, 'R');
+        assertTrue(board.move(0, 2, 'R'));
+        Node root = new Node(board, null, 'N', null);
+        List<Character> result = solverIDAStar.solve(root, "MANH");
+        assertEquals(9, result.size());
+        assertEquals(1, solverIDAStar.getIterations());
+        assertEquals(List.of(9), solverIDAStar.getThresholds());
+        List<Integer> position;
+        for (Character c : result) {
+            position = board.getEmptyPosition();
+            board.move(position.get(0), position.get(1), c);
+        }
+        assertTrue(board.isBoardSolved());
+    }
+
+    @Test
+    void testSolveOptimal() {
+        for (int i = 0; i < 5; i++) {
+            Board scrambled = BoardFactory.getSolvableBoard(3, 3, 30);
+            List<Character> optimal = new SolverBFS().solve(new Node(scrambled, null, 'N', null), "UDLR");
+            SolverIDAStar solverIDAStar = new SolverIDAStar();
+            List<Character> resultMANH = solverIDAStar.solve(new Node(scrambled, null, 'N', null), "MANH");
+            assertEquals(optimal.size(), resultMANH.size());
+            assertEquals(optimal.size(), solverIDAStar.getThresholds().getLast());
+            for (String parameter : List.of("HAMM", "LINC", "WALK")) {
+                List<Character> result = solverIDAStar.solve(new Node(scrambled, null, 'N', null), parameter);
+                assertEquals(optimal.size(), result.size());
+            }
+        }
+    }
+
+    @Test
+    void testSolveSolvedBoard() {
+        SolverIDAStar solverIDAStar = new SolverIDAStar();
+        List<Character> result = solverIDAStar.solve(new Node(board, null, 'N', null), "MANH");
+        assertTrue(result.isEmpty());
+        assertEquals(0, solverIDAStar.getStats().solutionLength());
+    }
+}
@@ -0,0 +1,80 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.Board;
+import me.jangluzniewicz.graphsearchalgorithms.model.Node;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SolverIDDFSTest {
+
+    @Test
+    void testSolveShortest() {
+        for (int i = 0; i < 10; i++) {
+            Board board = BoardFactory.getSolvableBoard(3, 3, 20);
+            SolverIDDFS solver = new SolverIDDFS();
+            List<Character> result = solver.solve(new Node(board, null, 'N', null), "RDLU");
+            List<Character> optimal = new SolverBFS().solve(new Node(board, null, 'N', null), "RDLU");
+            assertEquals(optimal.size(), result.size());
+            assertEquals(result.size() + 1, solver.getIterationNodes().size());
+            assertEquals(SolverOutcome.SOLVED, solver.getStats().outcome());
+            assertEquals(0, solver.getStats().peakVisitedSize());
+            List<Integer> position;
+            for (Character c : result) {
+                position = board.getEmptyPosition();
+                assertTrue(board.move(position.get(0), position.get(1), c));
+            }
+            assertTrue(board.isBoardSolved());
+        }
+    }
+
+    @Test
+    void testIterationNodes() {
+        Board board = BoardFactory.getSolvedBoard(3, 3);
+        board.move(2, 2, 'U');
+        board.move(1, 2, 'L');
+        board.move(1, 1, 'U');
+        SolverIDDFS solver = new SolverIDDFS();
+        assertEquals(List.of('D', 'R', 'D'), solver.solve(new Node(board, null, 'N', null), "UDLR"));
+        List<Long> nodes = solver.getIterationNodes();
+        assertEquals(1, nodes.getFirst());
+        for (int i = 1; i < nodes.size(); i++) {
+            assertTrue(nodes.get(i) > nodes.get(i - 1));
+        }
+        assertEquals(String.valueOf(nodes), solver.getStats().details().get("Nodes per iteration"));
+    }
+
+    @Test
+    void testMaxDepth() {
+        Board board = BoardFactory.getSolvableBoard(3, 3, 30);
+        while (new SolverBFS().solve(new Node(board, null, 'N', null), "RDLU").size() < 6) {
+            board = BoardFactory.getSolvableBoard(3, 3, 30);
+        }
+        SolverIDDFS solver = new SolverIDDFS(5);
+        assertTrue(solver.solve(new Node(board, null, 'N', null), "RDLU").isEmpty());
+        assertEquals(SolverOutcome.EXHAUSTED, solver.getStats().outcome());
+        assertEquals(BoardAnalysis.of(board).lowerBound() <= 5 ? 6 : 0, solver.getIterationNodes().size());
+        assertThrows(IllegalArgumentException.class, () -> new SolverIDDFS(-1));
+    }
+
+    @Test
+    void testTranspositionTable() {
+        Board board = BoardFactory.getSolvableBoard(3, 3, 40);
+        while (new SolverBFS().solve(new Node(board, null, 'N', null), "RDLU").size() < 12) {
+            board = BoardFactory.getSolvableBoard(3, 3, 40);
+        }
+        SolverIDDFS plain = new SolverIDDFS();
+        SolverIDDFS pruned = new SolverIDDFS(80, 1 << 16);
+        List<Character> expected = plain.solve(new Node(board, null, 'N', null), "RDLU");
+        List<Character> result = pruned.solve(new Node(board, null, 'N', null), "RDLU");
+        assertEquals(expected.size(), result.size());
+        assertTrue(pruned.getStats().processedStates() < plain.getStats().processedStates());
+        assertTrue(pruned.getStats().peakVisitedSize() > 0);
+        assertNotNull(pruned.getStats().details().get("Transposition hit rate"));
+        pruned.solve(new Node(board, null, 'N', null), "RDLU", new SolverLimits(null, Long.MAX_VALUE, 1024, null));
+        assertEquals(SolverOutcome.MEMORY_LIMIT, pruned.getStats().outcome());
+        assertThrows(IllegalArgumentException.class, () -> new SolverIDDFS(256, 1 << 16));
+    }
+}
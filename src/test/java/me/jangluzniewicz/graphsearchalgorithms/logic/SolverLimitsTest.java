@@ -0,0 +1,152 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.Board;
+import me.jangluzniewicz.graphsearchalgorithms.model.Field;
+import me.jangluzniewicz.graphsearchalgorithms.model.Node;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SolverLimitsTest {
+    private static final Map<String, Supplier<BoardSolverInterface>> SOLVERS = Map.of(
+            "RDLU", SolverBFS::new,
+            "DRUL", SolverDFS::new,
+            "DRLU", SolverIDDFS::new,
+            "LURD", SolverBidirectionalBFS::new,
+            "ULDR", () -> new SolverParallelBFS(2),
+            "ULRD", SolverDiskBFS::new,
+            "MANH", SolverASTR::new,
+            "HAMM", () -> new SolverHDAStar(2),
+            "LINC", SolverIDAStar::new);
+
+    @Test
+    void testNodeBudget() {
+        Board board = getHardBoard();
+        SOLVERS.forEach((parameter, factory) -> {
+            BoardSolverInterface solver = factory.get();
+            List<Character> result = solver.solve(new Node(board, null, 'N', null), parameter,
+                    new SolverLimits(null, 500, Long.MAX_VALUE, null));
+            SolverStats stats = solver.getStats();
+            assertTrue(result.isEmpty(), parameter);
+            assertEquals(SolverOutcome.NODE_LIMIT, stats.outcome(), parameter);
+            assertEquals(-1, stats.solutionLength(), parameter);
+            assertTrue(stats.processedStates() > 0, parameter);
+            assertTrue(stats.processedStates() <= 500 + 64 * 2, parameter);
+        });
+    }
+
+    @Test
+    void testCancellation() {
+        Board board = getHardBoard();
+        CancellationToken token = new CancellationToken();
+        token.cancel();
+        SOLVERS.forEach((parameter, factory) -> {
+            BoardSolverInterface solver = factory.get();
+            assertTrue(solver.solve(new Node(board, null, 'N', null), parameter,
+                    SolverLimits.cancellable(token)).isEmpty(), parameter);
+            assertEquals(SolverOutcome.CANCELLED, solver.getStats().outcome(), parameter);
+        });
+    }
+
+    @Test
+    void testDeadline() {
+        Board board = getHardBoard();
+        SOLVERS.forEach((parameter, factory) -> {
+            BoardSolverInterface solver = factory.get();
+            assertTrue(solver.solve(new Node(board, null, 'N', null), parameter,
+                    new SolverLimits(Duration.ZERO, Long.MAX_VALUE, Long.MAX_VALUE, null)).isEmpty(), parameter);
+            assertEquals(SolverOutcome.TIME_LIMIT, solver.getStats().outcome(), parameter);
+        });
+    }
+
+    @Test
+    void testMemoryBudget() {
+        Board board = getHardBoard();
+        SOLVERS.forEach((parameter, factory) -> {
+            if (parameter.equals("MANH") || parameter.equals("LINC") || parameter.equals("DRLU")) {
+                return;
+            }
+            BoardSolverInterface solver = factory.get();
+            assertTrue(solver.solve(new Node(board, null, 'N', null), parameter,
+                    new SolverLimits(null, Long.MAX_VALUE, 24, null)).isEmpty(), parameter);
+            assertEquals(SolverOutcome.MEMORY_LIMIT, solver.getStats().outcome(), parameter);
+        });
+    }
+
+    @Test
+    void testMemoryFallback() {
+        HeuristicInterface manhattan = HeuristicFactory.getHeuristic("MANH", 3, 3);
+        Board board = BoardFactory.getSolvableBoard(3, 3, 40);
+        while (manhattan.estimate(board.getPackedState()) < 10) {
+            board = BoardFactory.getSolvableBoard(3, 3, 40);
+        }
+        SolverASTR unlimited = new SolverASTR();
+        int optimal = unlimited.solve(new Node(board, null, 'N', null), "MANH").size();
+        SolverASTR solver = new SolverASTR();
+        List<Character> result = solver.solve(new Node(board, null, 'N', null), "MANH",
+                new SolverLimits(null, Long.MAX_VALUE, 2048, null));
+        SolverStats stats = solver.getStats();
+        assertEquals(optimal, result.size());
+        assertEquals(SolverOutcome.SOLVED, stats.outcome());
+        assertTrue(stats.details().containsKey("Memory fallback"));
+        List<Integer> position;
+        for (Character c : result) {
+            position = board.getEmptyPosition();
+            assertTrue(board.move(position.get(0), position.get(1), c));
+        }
+        assertTrue(board.isBoardSolved());
+    }
+
+    @Test
+    void testWithinLimits() {
+        Board board = BoardFactory.getSolvableBoard(3, 3, 10);
+        SolverASTR solver = new SolverASTR();
+        List<Character> result = solver.solve(new Node(board, null, 'N', null), "MANH",
+                new SolverLimits(Duration.ofMinutes(1), 1_000_000, 1L << 30, new CancellationToken()));
+        assertEquals(result.size(), solver.getStats().solutionLength());
+        assertEquals(SolverOutcome.SOLVED, solver.getStats().outcome());
+    }
+
+    @Test
+    void testInvalidLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new SolverLimits(null, 0, Long.MAX_VALUE, null));
+        assertThrows(IllegalArgumentException.class, () -> new SolverLimits(Duration.ofSeconds(-1), 1, 1, null));
+    }
+
+    @Test
+    void testUnsolvableBoard() {
+        ArrayList<Field> fields = new ArrayList<>();
+        for (int i = 1; i < 16; i++) {
+            fields.add(new Field(i));
+        }
+        fields.add(new Field(0));
+        Collections.swap(fields, 13, 14);
+        Board board = BoardFactory.getBoard(fields);
+        SOLVERS.forEach((parameter, factory) -> {
+            BoardSolverInterface solver = factory.get();
+            assertTrue(solver.solve(new Node(board, null, 'N', null), parameter).isEmpty(), parameter);
+            assertEquals(SolverOutcome.UNSOLVABLE, solver.getStats().outcome(), parameter);
+            assertEquals(-1, solver.getStats().solutionLength(), parameter);
+        });
+    }
+
+    /**
+     * Generates a 4x4 board that no solver finishes within a few hundred expansions and whose lower bound is
+     * within the default depth limit of DFS.
+     */
+    private static Board getHardBoard() {
+        HeuristicInterface manhattan = HeuristicFactory.getHeuristic("MANH", 4, 4);
+        Board board = BoardFactory.getSolvableBoard(4, 4, 80);
+        while (manhattan.estimate(board.getPackedState()) < 24 || BoardAnalysis.of(board).lowerBound() > 30) {
+            board = BoardFactory.getSolvableBoard(4, 4, 80);
+        }
+        return board;
+    }
+}
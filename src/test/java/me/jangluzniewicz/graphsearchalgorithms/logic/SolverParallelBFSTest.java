@@ -0,0 +1,36 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.Board;
+import me.jangluzniewicz.graphsearchalgorithms.model.Node;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SolverParallelBFSTest {
+
+    @Test
+    void testSolveMatchesSequential() {
+        for (int[] size : new int[][]{{3, 3}, {3, 4}, {4, 4}}) {
+            for (String parameter : new String[]{"RDLU", "ULDR", "DRUL"}) {
+                Board board = BoardFactory.getSolvableBoard(size[0], size[1], 16);
+                List<Character> expected = new SolverBFS().solve(new Node(board, null, 'N', null), parameter);
+                List<Character> result = new SolverParallelBFS(4).solve(new Node(board, null, 'N', null), parameter);
+                assertEquals(expected, result);
+            }
+        }
+    }
+
+    @Test
+    void testSolved() {
+        SolverParallelBFS solver = new SolverParallelBFS(2);
+        assertTrue(solver.solve(new Node(BoardFactory.getSolvedBoard(3, 3), null, 'N', null), "RDLU").isEmpty());
+        assertEquals(0, solver.getStats().solutionLength());
+    }
+
+    @Test
+    void testInvalidParallelism() {
+        assertThrows(IllegalArgumentException.class, () -> new SolverParallelBFS(0));
+    }
+}
@@ -0,0 +1,56 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.Board;
+import me.jangluzniewicz.graphsearchalgorithms.model.Node;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SolverStatsTest {
+
+    @Test
+    void testDerivedFigures() {
+        SolverStats stats = new SolverStats(12, 400, 200, 12, 2_000_000_000L, 50, 400, 1024,
+                SolverOutcome.SOLVED);
+        assertEquals(2000.0, stats.elapsedMillis());
+        assertEquals(100.0, stats.nodesPerSecond());
+        assertEquals(0.0, new SolverStats(0, 1, 1, 0, 0, 0, 1, -1, SolverOutcome.SOLVED).nodesPerSecond());
+    }
+
+    @Test
+    void testToString() {
+        Map<String, String> details = new LinkedHashMap<>();
+        details.put("Iterations", "3");
+        details.put("Thresholds", "[4, 6, 8]");
+        String text = new SolverStats(8, 30, 20, 8, 1_500_000, 10, 30, -1, SolverOutcome.SOLVED, details)
+                .toString();
+        assertTrue(text.startsWith("Solution length: 8\nVisited states: 30\nProcessed states: 20\n"));
+        assertTrue(text.contains("Computation time (ms): 1.5\n"));
+        assertTrue(text.contains("Allocated bytes: n/a\nOutcome: SOLVED\n"));
+        assertTrue(text.endsWith("Iterations: 3\nThresholds: [4, 6, 8]"));
+    }
+
+    @Test
+    void testSolverFigures() {
+        Board board = BoardFactory.getSolvableBoard(3, 3, 12);
+        while (board.isBoardSolved()) {
+            board = BoardFactory.getSolvableBoard(3, 3, 12);
+        }
+        for (BoardSolverInterface solver : List.of(new SolverBFS(), new SolverASTR(), new SolverParallelBFS(2))) {
+            String parameter = solver instanceof SolverASTR ? "MANH" : "RDLU";
+            List<Character> solution = solver.solve(new Node(board, null, 'N', null), parameter);
+            SolverStats stats = solver.getStats();
+            assertEquals(solution.size(), stats.solutionLength());
+            assertTrue(stats.processedStates() > 0);
+            assertTrue(stats.peakFrontierSize() > 0);
+            assertTrue(stats.peakVisitedSize() >= stats.peakFrontierSize());
+            assertTrue(stats.elapsedNanos() > 0);
+            assertNotEquals(0, stats.allocatedBytes());
+            assertEquals(SolverOutcome.SOLVED, stats.outcome());
+        }
+    }
+}
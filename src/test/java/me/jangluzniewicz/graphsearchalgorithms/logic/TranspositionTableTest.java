@@ -0,0 +1,94 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.Board;
+import me.jangluzniewicz.graphsearchalgorithms.model.BoardSymmetry;
+import org.junit.jupiter.api.Test;
+
+import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranspositionTableTest {
+
+    @Test
+    void testPrunesAtEqualOrGreaterDepth() {
+        TranspositionTable table = new TranspositionTable(1024, 2, 3);
+        long state = BoardFactory.getSolvableBoard(2, 3, 10).getPackedState();
+        assertFalse(table.visit(state, 3));
+        assertTrue(table.visit(state, 5));
+        assertTrue(table.visit(state, 3));
+        assertFalse(table.visit(state, 2));
+        assertTrue(table.visit(state, 2));
+        assertEquals(1, table.size());
+        assertEquals(5, table.getProbes());
+        assertEquals(4, table.getHits());
+        assertEquals(3, table.getPrunes());
+    }
+
+    @Test
+    void testClear() {
+        TranspositionTable table = new TranspositionTable(1024, 2, 3);
+        long state = BoardFactory.getSolvableBoard(2, 3, 10).getPackedState();
+        assertFalse(table.visit(state, 0));
+        table.clear();
+        assertEquals(0, table.size());
+        assertFalse(table.visit(state, 4));
+        assertEquals(1, table.size());
+        assertEquals(0, table.getHits());
+    }
+
+    @Test
+    void testReflectionSharesEntry() {
+        TranspositionTable table = new TranspositionTable(1024, 3, 3);
+        Board board = BoardFactory.getSolvableBoard(3, 3, 20);
+        assertFalse(table.visit(board.getPackedState(), 4));
+        assertTrue(table.visit(BoardSymmetry.transpose(board.getPackedState(), 3), 6));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    void testReplacesDeeperEntry() {
+        TranspositionTable table = new TranspositionTable(1024, 2, 3);
+        List<Long> bucket = new ArrayList<>();
+        for (long state = 1; bucket.size() < 3; state++) {
+            if ((VisitedStateSet.mix(state) & 1022) == 0) {
+                bucket.add(state);
+            }
+        }
+        assertFalse(table.visit(bucket.get(0), 1));
+        assertFalse(table.visit(bucket.get(1), 9));
+        assertFalse(table.visit(bucket.get(2), 5));
+        assertEquals(1, table.getReplacements());
+        assertEquals(2, table.size());
+        assertTrue(table.visit(bucket.get(0), 1));
+        assertTrue(table.visit(bucket.get(2), 5));
+        assertFalse(table.visit(bucket.get(1), 9));
+    }
+
+    @Test
+    void testCapacity() {
+        assertEquals(1024, new TranspositionTable(1, 2, 3).capacity());
+        assertEquals(2048, new TranspositionTable(4000, 2, 3).capacity());
+        assertEquals(0, TranspositionTable.capacityWithin(1 << 20, 1000));
+        assertEquals(2000, TranspositionTable.capacityWithin(1 << 20, 2000 * TranspositionTable.BYTES_PER_ENTRY));
+        assertEquals(1 << 20, TranspositionTable.capacityWithin(1 << 20, Long.MAX_VALUE));
+    }
+
+    @Test
+    void testDetails() {
+        TranspositionTable table = new TranspositionTable(1024, 2, 3);
+        table.visit(1, 0);
+        table.visit(1, 1);
+        Map<String, String> details = new LinkedHashMap<>();
+        table.addDetails(details);
+        assertEquals("1024", details.get("Transposition table slots"));
+        String half = new DecimalFormat("#.###").format(0.5);
+        assertEquals(half, details.get("Transposition hit rate"));
+        assertEquals(half, details.get("Transposition prune rate"));
+        assertEquals("0", details.get("Transposition replacements"));
+    }
+}
@@ -0,0 +1,76 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.Board;
+import me.jangluzniewicz.graphsearchalgorithms.model.BoardSymmetry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VisitedStateSetTest {
+
+    @Test
+    void addAndContains() {
+        VisitedStateSet visited = new VisitedStateSet(4, 0.5f);
+        for (long state = 1; state <= 10_000; state++) {
+            assertTrue(visited.add(state * 31, 'U'));
+        }
+        for (long state = 1; state <= 10_000; state++) {
+            assertFalse(visited.add(state * 31, 'D'));
+            assertTrue(visited.contains(state * 31));
+            assertEquals('U', visited.getMove(state * 31));
+        }
+        assertFalse(visited.contains(7));
+        assertEquals(10_000, visited.size());
+    }
+
+    @Test
+    void addEmptyKey() {
+        VisitedStateSet visited = new VisitedStateSet();
+        assertFalse(visited.contains(0));
+        assertTrue(visited.add(0, 'L'));
+        assertFalse(visited.add(0, 'R'));
+        assertEquals('L', visited.getMove(0));
+        assertEquals(1, visited.size());
+    }
+
+    @Test
+    void getPath() {
+        Board board = BoardFactory.getSolvedBoard(3, 3);
+        VisitedStateSet visited = new VisitedStateSet();
+        visited.add(board.getPackedState(), VisitedStateSet.ROOT_MOVE);
+        board.move(2, 2, 'U');
+        visited.add(board.getPackedState(), 'U');
+        board.move(1, 2, 'L');
+        visited.add(board.getPackedState(), 'L');
+        assertEquals(List.of('U', 'L'), visited.getPath(board.getPackedState(), 3, 3));
+    }
+
+    @Test
+    void canonicalMergesReflections() {
+        Board board = BoardFactory.getSolvedBoard(3, 3);
+        VisitedStateSet visited = VisitedStateSet.canonical(3, 3);
+        visited.add(board.getPackedState(), VisitedStateSet.ROOT_MOVE);
+        board.move(2, 2, 'U');
+        long state = board.getPackedState();
+        long reflected = BoardSymmetry.transpose(state, 3);
+        assertTrue(visited.add(state, 'U'));
+        assertFalse(visited.add(reflected, 'L'));
+        assertEquals('U', visited.getMove(state));
+        assertEquals('L', visited.getMove(reflected));
+        board.move(1, 2, 'L');
+        visited.add(board.getPackedState(), 'L');
+        assertEquals(List.of('L', 'U'), visited.getPath(BoardSymmetry.transpose(board.getPackedState(), 3), 3, 3));
+        assertEquals(3, visited.size());
+        VisitedStateSet rectangular = VisitedStateSet.canonical(3, 4);
+        long solved = Board.getSolvedState(3, 4);
+        assertTrue(rectangular.add(solved, VisitedStateSet.ROOT_MOVE));
+        assertEquals(1, rectangular.size());
+    }
+
+    @Test
+    void invalidLoadFactor() {
+        assertThrows(IllegalArgumentException.class, () -> new VisitedStateSet(16, 1.5f));
+    }
+}
@@ -0,0 +1,42 @@
+package me.jangluzniewicz.graphsearchalgorithms.logic;
+
+import me.jangluzniewicz.graphsearchalgorithms.model.Board;
+import me.jangluzniewicz.graphsearchalgorithms.model.Node;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WalkingDistanceHeuristicTest {
+
+    @Test
+    void testTableSize() {
+        assertEquals(24964, WalkingDistanceTable.getTable(4, 4).size());
+        assertSame(WalkingDistanceTable.getTable(4, 4), WalkingDistanceTable.getTable(4, 4));
+    }
+
+    @Test
+    void testEstimate() {
+        HeuristicInterface heuristic = new WalkingDistanceHeuristic(4, 4);
+        assertEquals(0, heuristic.estimate(Board.getSolvedState(4, 4)));
+        Board board = BoardFactory.getSolvedBoard(4, 4);
+        board.move(3, 3, 'U');
+        assertEquals(1, heuristic.estimate(board.getPackedState()));
+    }
+
+    @Test
+    void testAdmissible() {
+        for (int[] size : new int[][]{{3, 3}, {3, 4}, {4, 3}}) {
+            HeuristicInterface heuristic = new WalkingDistanceHeuristic(size[0], size[1]);
+            HeuristicInterface manhattan = new ManhattanHeuristic(size[0], size[1]);
+            for (int i = 0; i < 5; i++) {
+                Board board = BoardFactory.getSolvableBoard(size[0], size[1], 16);
+                List<Character> optimal = new SolverBFS().solve(new Node(board, null, 'N', null), "UDLR");
+                int estimate = heuristic.estimate(board.getPackedState());
+                assertTrue(estimate <= optimal.size());
+                assertTrue(estimate >= manhattan.estimate(board.getPackedState()));
+            }
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package me.jangluzniewicz.graphsearchalgorithms.model;
 
+import me.jangluzniewicz.graphsearchalgorithms.logic.BoardController;
 import me.jangluzniewicz.graphsearchalgorithms.logic.BoardFactory;
+import me.jangluzniewicz.graphsearchalgorithms.logic.BoardValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -101,4 +104,68 @@ class BoardTest {
         Board board2 = BoardFactory.getBoard(fieldsArray2);
         assertEquals(4, board2.getPossibleMoves(2,2).size());
     }
+
+    @Test
+    void testGetPossibleMovesUsesValidator() {
+        ArrayList<Field> fields = new ArrayList<>();
+        for (int i = 1; i < 9; i++) {
+            fields.add(new Field(i));
+        }
+        fields.add(new Field(0));
+        Board restricted = new Board(3, 3, fields, new BoardController(), new BoardValidator() {
+            @Override
+            public boolean isMoveValid(Board board, int row, int column, char direction) {
+                return direction != 'U' && super.isMoveValid(board, row, column, direction);
+            }
+        });
+        assertEquals(List.of('L'), restricted.getPossibleMoves(2, 2));
+    }
+
+    @Test
+    void testWithEmptyMoved() {
+        Board solved = BoardFactory.getSolvedBoard(3, 3);
+        assertEquals(List.of('U', 'L'), solved.getEmptyMoves());
+        Board moved = solved.withEmptyMoved('U');
+        assertEquals(5, moved.getEmptyIndex());
+        assertEquals(6, moved.getFieldValue(2, 2));
+        assertTrue(solved.isBoardSolved());
+        Board expected = (Board) solved.clone();
+        assertTrue(expected.move(2, 2, 'U'));
+        assertEquals(expected, moved);
+        assertThrows(IllegalArgumentException.class, () -> solved.withEmptyMoved('D'));
+    }
+
+    @Test
+    void testPackedState() {
+        Board solved = BoardFactory.getSolvedBoard(4, 4);
+        assertEquals(0x0FEDCBA987654321L, solved.getPackedState());
+        assertEquals(Board.getSolvedState(4, 4), solved.getPackedState());
+        assertEquals(15, solved.getEmptyIndex());
+        assertTrue(solved.move(3, 3, 'U'));
+        assertEquals(11, solved.getEmptyIndex());
+        assertEquals(12, solved.getFieldValue(3, 3));
+        assertFalse(solved.isBoardSolved());
+    }
+
+    @Test
+    void testClone() {
+        Board solved = BoardFactory.getSolvedBoard(3, 4);
+        Board copy = (Board) solved.clone();
+        assertEquals(solved, copy);
+        assertEquals(solved.hashCode(), copy.hashCode());
+        copy.move(2, 3, 'L');
+        assertNotEquals(solved, copy);
+        assertTrue(solved.isBoardSolved());
+        assertEquals(List.of(2, 2), copy.getEmptyPosition());
+    }
+
+    @Test
+    void testInvalidBoard() {
+        ArrayList<Field> fields = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            fields.add(new Field(i));
+        }
+        assertThrows(IllegalArgumentException.class, () -> BoardFactory.getBoard(5, 5, fields));
+        assertThrows(IllegalArgumentException.class, () -> board.setFieldValue(0, 0, 16));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package me.jangluzniewicz.graphsearchalgorithms.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoveTableTest {
+
+    @Test
+    void testTargets() {
+        MoveTable table = MoveTable.of(3, 4);
+        assertEquals(-1, table.getTarget(0, 'U'));
+        assertEquals(4, table.getTarget(0, 'D'));
+        assertEquals(-1, table.getTarget(0, 'L'));
+        assertEquals(1, table.getTarget(0, 'R'));
+        assertEquals(7, table.getTarget(11, 'U'));
+        assertEquals(-1, table.getTarget(11, 'R'));
+        assertThrows(IllegalArgumentException.class, () -> table.getTarget(0, 'X'));
+    }
+
+    @Test
+    void testMoves() {
+        MoveTable table = MoveTable.of(4, 4);
+        assertEquals(List.of('D', 'R'), table.getMoves(0));
+        assertEquals(List.of('U', 'D', 'L', 'R'), table.getMoves(5));
+        assertEquals(List.of('U', 'L'), table.getMoves(15));
+        assertSame(table, MoveTable.of(4, 4));
+        assertThrows(UnsupportedOperationException.class, () -> table.getMoves(5).add('U'));
+    }
+
+    @Test
+    void testInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> MoveTable.of(0, 4));
+        assertThrows(IllegalArgumentException.class, () -> MoveTable.of(5, 4));
+    }
+}
@@ -35,4 +35,21 @@ class NodeTest {
         assertEquals(1, children.getFirst().getPath().size());
         assertEquals(1, children.getLast().getPath().size());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGetPath() {
+        Node root = new Node(state, null, 'N', List.of('R', 'D'));
+        assertEquals(List.of('R', 'D'), root.getPath());
+        List<Character> expected = new ArrayList<>(List.of('R', 'D'));
+        Node node = root;
+        for (int i = 0; i < 40; i++) {
+            node = node.getChildren().getFirst();
+            expected.add(node.getLastMove());
+        }
+        List<Character> path = node.getPath();
+        assertEquals(expected, path);
+        assertSame(path, node.getPath());
+        assertThrows(UnsupportedOperationException.class, () -> path.add('U'));
+        assertThrows(IllegalArgumentException.class, () -> new Node(state, null, 'N', List.of('X')));
+    }
+}